@@ -10,6 +10,7 @@ import com.lwd.jobportal.dto.authdto.LoginRequest;
 import com.lwd.jobportal.dto.authdto.RegisterRequest;
 import com.lwd.jobportal.dto.authdto.RegisterResponse;
 import com.lwd.jobportal.entity.User;
+import com.lwd.jobportal.exception.TooManyRequestsException;
 
 import lombok.RequiredArgsConstructor;
 
@@ -57,6 +58,10 @@ public class AuthController {
 
             return ResponseEntity.ok(new JwtResponse(token));
 
+        } catch (TooManyRequestsException e) {
+            // Password checks are saturated; handled as 429 with Retry-After
+            throw e;
+
         } catch (RuntimeException e) {
 
             return ResponseEntity
@@ -1,10 +1,6 @@
 package com.lwd.jobportal.authservice;
 
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.DisabledException;
-import org.springframework.security.authentication.LockedException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -16,7 +12,10 @@ import com.lwd.jobportal.exception.AccountDisabledException;
 import com.lwd.jobportal.exception.AccountLockedException;
 import com.lwd.jobportal.exception.UserAlreadyExistsException;
 import com.lwd.jobportal.repository.UserRepository;
+import com.lwd.jobportal.search.SearchIndexSync;
 import com.lwd.jobportal.security.JwtUtil;
+import com.lwd.jobportal.security.PasswordVerifier;
+import com.lwd.jobportal.service.CurrentCompanyService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,8 +25,10 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final AuthenticationManager authenticationManager;
+    private final PasswordVerifier passwordVerifier;
     private final JwtUtil jwtUtil;
+    private final SearchIndexSync searchIndexSync;
+    private final CurrentCompanyService currentCompanyService;
 
     // ================= REGISTER JOB SEEKER =================
     public User registerJobSeeker(RegisterRequest request) {
@@ -45,7 +46,10 @@ public class AuthService {
                 .isActive(true)
                 .build();
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        searchIndexSync.userChanged(savedUser);
+
+        return savedUser;
     }
 
     // ================= REGISTER RECRUITER =================
@@ -64,35 +68,36 @@ public class AuthService {
                 .isActive(true)
                 .build();
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        searchIndexSync.userChanged(savedUser);
+
+        return savedUser;
     }
 
- // ================= LOGIN =================
+    // ================= LOGIN =================
     public String login(String email, String password) {
 
-        try {
+        // Single lookup; the same checks CustomUserDetailsService applies
+        User user = userRepository.findByEmail(email).orElse(null);
 
-            authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(email, password)
-            );
+        if (user != null && user.getStatus() != UserStatus.ACTIVE) {
+            throw new AccountDisabledException("Your account is not active.");
+        }
 
-        } catch (LockedException e) {
+        if (user != null && user.isLocked()) {
             throw new AccountLockedException("Your account is locked. Contact administrator.");
-        } catch (DisabledException e) {
-            throw new AccountDisabledException("Your account is not active.");
-        } catch (BadCredentialsException e) {
-            throw new BadCredentialsException("Invalid email or password");
         }
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() ->
-                        new BadCredentialsException("Invalid email or password")
-                );
+        // Unknown emails still pay for a hash check
+        if (!passwordVerifier.matches(password, user != null ? user.getPassword() : null)) {
+            throw new BadCredentialsException("Invalid email or password");
+        }
 
         return jwtUtil.generateToken(
                 user.getId(),
                 user.getEmail(),
-                user.getRole().name()
+                user.getRole().name(),
+                currentCompanyService.resolveForToken(user)
         );
     }
 
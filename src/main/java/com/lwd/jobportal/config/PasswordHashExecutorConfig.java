@@ -0,0 +1,36 @@
+package com.lwd.jobportal.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Bounded pool for BCrypt password checks at login.
+ *
+ * Unlike the search pool, a full queue rejects the task instead of running it on
+ * the caller, so a login storm is answered with 429 rather than tying up servlet threads.
+ */
+@Configuration
+public class PasswordHashExecutorConfig {
+
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${lwd.auth.password-hash.pool-size:0}") int poolSize,
+            @Value("${lwd.auth.password-hash.queue-capacity:64}") int queueCapacity
+    ) {
+        // BCrypt is CPU bound: default to one thread per core
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
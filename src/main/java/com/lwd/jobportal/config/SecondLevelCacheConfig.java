@@ -0,0 +1,77 @@
+package com.lwd.jobportal.config;
+
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import jakarta.persistence.SharedCacheMode;
+
+/**
+ * Hibernate second-level cache for reference data read on most requests.
+ *
+ * Each region is an in-process Caffeine cache with a size bound and a write TTL.
+ * Writes through Hibernate keep the local node current; the TTL bounds how long
+ * another node's change can go unseen.
+ *
+ * The regions live in a cache manager of this context's own, closed with it, so
+ * several application contexts in one JVM (tests) do not collide on region names.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String COMPANY_REGION = "company";
+    public static final String SKILL_REGION = "skill";
+    public static final String USER_REGION = "user";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${lwd.cache.l2.company.max-size:5000}") long companyMaxSize,
+            @Value("${lwd.cache.l2.company.ttl-ms:600000}") long companyTtlMs,
+            @Value("${lwd.cache.l2.skill.max-size:10000}") long skillMaxSize,
+            @Value("${lwd.cache.l2.skill.ttl-ms:3600000}") long skillTtlMs,
+            @Value("${lwd.cache.l2.user.max-size:20000}") long userMaxSize,
+            @Value("${lwd.cache.l2.user.ttl-ms:60000}") long userTtlMs
+    ) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("lwd:l2:" + UUID.randomUUID()), getClass().getClassLoader());
+
+        createRegion(cacheManager, COMPANY_REGION, companyMaxSize, companyTtlMs);
+        createRegion(cacheManager, SKILL_REGION, skillMaxSize, skillTtlMs);
+        createRegion(cacheManager, USER_REGION, userMaxSize, userTtlMs);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(CacheSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(CacheSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // Only entities marked @Cacheable
+            properties.put(CacheSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+        };
+    }
+
+    private void createRegion(CacheManager cacheManager, String name, long maxSize, long ttlMs) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(ttlMs)));
+        cacheManager.createCache(name, configuration);
+    }
+}
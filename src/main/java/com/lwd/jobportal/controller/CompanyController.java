@@ -7,13 +7,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import com.lwd.jobportal.dto.comman.CountMode;
 import com.lwd.jobportal.dto.companydto.CompanyAnalyticsDTO;
 import com.lwd.jobportal.dto.companydto.CompanyResponse;
 import com.lwd.jobportal.dto.companydto.CreateCompanyRequest;
 import com.lwd.jobportal.dto.companydto.PagedCompanyResponse;
 import com.lwd.jobportal.security.SecurityUtils;
 import com.lwd.jobportal.service.CompanyService;
+import com.lwd.jobportal.util.ConditionalRequests;
 
 import lombok.RequiredArgsConstructor;
 
@@ -86,7 +89,14 @@ public class CompanyController {
     // ✅ GET COMPANY BY ID (Public / Authenticated)
     @GetMapping("/{id}")
     public ResponseEntity<CompanyResponse> getCompany(
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest request) {
+
+        // 304 when the client copy is current
+        if (ConditionalRequests.notModified(request, "company-" + id,
+                companyService.findLastModified(id).orElse(null))) {
+            return null;
+        }
 
         return ResponseEntity.ok(
                 companyService.getCompanyById(id)
@@ -115,10 +125,11 @@ public class CompanyController {
     public PagedCompanyResponse searchCompanies(
             @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "EXACT") CountMode countMode
     ) {
 
-        return companyService.searchCompanies(keyword, page, size);
+        return companyService.searchCompanies(keyword, page, size, countMode);
     }
     
     // ✅ GET BY INDUSTRY (PAGINATED)
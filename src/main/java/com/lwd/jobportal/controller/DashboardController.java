@@ -1,20 +1,27 @@
 package com.lwd.jobportal.controller;
 
 import com.lwd.jobportal.dto.admin.AdminDashboardDTO;
+import com.lwd.jobportal.dto.comman.PagedResponse;
+import com.lwd.jobportal.dto.comman.PaginationUtil;
+import com.lwd.jobportal.dto.jobdto.JobStatsDTO;
 import com.lwd.jobportal.dto.recruiteradmindto.RecruiterAdminDashboardDTO;
 import com.lwd.jobportal.dto.recruiterdto.RecruiterDashboardDTO;
-import com.lwd.jobportal.entity.Company;
-import com.lwd.jobportal.entity.User;
+import com.lwd.jobportal.dto.recruiterdto.RecruiterPerformanceDTO;
+import com.lwd.jobportal.exception.ResourceNotFoundException;
 import com.lwd.jobportal.security.SecurityUtils;
 import com.lwd.jobportal.service.AdminDashboardService;
+import com.lwd.jobportal.service.CurrentCompanyService;
 import com.lwd.jobportal.service.RecruiterAdminDashboardService;
 import com.lwd.jobportal.service.RecruiterDashboardService;
-import com.lwd.jobportal.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -25,7 +32,7 @@ public class DashboardController {
     private final AdminDashboardService adminService;
     private final RecruiterAdminDashboardService recruiterAdminService;
     private final RecruiterDashboardService recruiterService;
-    private final UserRepository userRepository;
+    private final CurrentCompanyService currentCompanyService;
 
     @GetMapping("/admin")
     @PreAuthorize("hasRole('ADMIN')")
@@ -40,6 +47,19 @@ public class DashboardController {
         return ResponseEntity.ok(recruiterAdminService.getDashboard(companyId));
     }
 
+    @GetMapping("/recruiter-admin/recruiters")
+    @PreAuthorize("hasRole('RECRUITER_ADMIN')")
+    public ResponseEntity<PagedResponse<RecruiterPerformanceDTO>> getRecruiterPerformance(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "applicationsReceived") String sortBy,
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction) {
+        Long companyId = getCurrentUsersCompanyId();
+        Page<RecruiterPerformanceDTO> performance =
+                recruiterAdminService.getRecruiterPerformance(companyId, page, size, sortBy, direction);
+        return ResponseEntity.ok(PaginationUtil.buildPagedResponse(performance, performance.getContent()));
+    }
+
     @GetMapping("/recruiter")
     @PreAuthorize("hasRole('RECRUITER')")
     public ResponseEntity<RecruiterDashboardDTO> getRecruiterDashboard() {
@@ -47,18 +67,20 @@ public class DashboardController {
         return ResponseEntity.ok(recruiterService.getDashboard(recruiterId));
     }
 
+    @GetMapping("/recruiter/job-stats")
+    @PreAuthorize("hasRole('RECRUITER')")
+    public ResponseEntity<PagedResponse<JobStatsDTO>> getRecruiterJobStats(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        Long recruiterId = SecurityUtils.getUserId();
+        Page<JobStatsDTO> stats = recruiterService.getPerJobStats(
+                recruiterId, PageRequest.of(page, size, Sort.by("id").descending()));
+        return ResponseEntity.ok(PaginationUtil.buildPagedResponse(stats, stats.getContent()));
+    }
+
     // Helper to get the company ID of the currently authenticated recruiter admin
     private Long getCurrentUsersCompanyId() {
-    	Long userId = SecurityUtils.getUserId();
-    	User currentUser = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
-        if (currentUser == null) {
-            throw new RuntimeException("User not authenticated");
-        }
-        Company company = currentUser.getCompany();
-        if (company == null) {
-            throw new RuntimeException("Authenticated user does not belong to any company");
-        }
-        return company.getId();
+        return currentCompanyService.findOwnedCompanyId(SecurityUtils.getUserId())
+                .orElseThrow(() -> new ResourceNotFoundException("Company not found for this admin"));
     }
-}
\ No newline at end of file
+}
@@ -27,12 +27,13 @@ public class GlobalSearchController {
             @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "jobs") String category,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeCounts
     ) {
 
         Pageable pageable = PageRequest.of(page, size);
 
-        return globalSearchService.globalSearch(keyword, category, pageable);
+        return globalSearchService.globalSearch(keyword, category, pageable, includeCounts);
     }
     
     
@@ -3,13 +3,17 @@ package com.lwd.jobportal.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import com.lwd.jobportal.dto.comman.CountMode;
+import com.lwd.jobportal.dto.comman.CursorPage;
 import com.lwd.jobportal.dto.comman.PagedResponse;
 import com.lwd.jobportal.dto.jobdto.CreateJobRequest;
 import com.lwd.jobportal.dto.jobdto.JobAnalyticsResponse;
@@ -20,6 +24,7 @@ import com.lwd.jobportal.enums.JobType;
 import com.lwd.jobportal.enums.NoticeStatus;
 import com.lwd.jobportal.security.SecurityUtils;
 import com.lwd.jobportal.service.JobService;
+import com.lwd.jobportal.util.ConditionalRequests;
 
 @RestController
 @RequestMapping("/api/jobs")
@@ -113,12 +118,22 @@ public class JobController {
     @PreAuthorize("hasAnyRole('ADMIN','RECRUITER_ADMIN','RECRUITER')")
     public PagedJobResponse getSearchJobsByRole(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(required = false) String keyword
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "EXACT") CountMode countMode
     ) {
-        return jobService.searchJobsByRole(keyword, page);
+        return jobService.searchJobsByRole(keyword, page, countMode);
     }
     
     
+    @GetMapping("/my-jobs/feed")
+    public ResponseEntity<CursorPage<JobResponse>> getMyJobFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size
+    ) {
+        return ResponseEntity.ok(jobService.getMyJobFeed(cursor, size));
+    }
+
+
     @PreAuthorize("hasAnyRole('ADMIN','RECRUITER_ADMIN')")
     @GetMapping("/{recruiterId}/jobs")
     public ResponseEntity<PagedResponse<JobResponse>> getJobsByRecruiter(
@@ -137,11 +152,23 @@ public class JobController {
     // ==================================================
     @GetMapping("/{jobId}")
     public ResponseEntity<JobResponse> getJobById(
-            @PathVariable Long jobId
+            @PathVariable Long jobId,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(
-                jobService.getJobById(jobId)
-        );
+        // Served from the job response cache; 304 skips serialization
+        JobResponse job = jobService.getJobById(jobId);
+
+        // The body embeds the company name and logo, so a company edit changes it too
+        LocalDateTime lastModified = ConditionalRequests.latest(
+                job.getUpdatedAt(),
+                job.getCompany() != null ? job.getCompany().getUpdatedAt() : null);
+
+        if (ConditionalRequests.notModified(request, "job-" + jobId,
+                lastModified, job.getTotalApplications())) {
+            return null;
+        }
+
+        return ResponseEntity.ok(job);
     }
     
     @GetMapping("/{jobId}/analytics")
@@ -165,17 +192,38 @@ public class JobController {
         );
     }
 
+    @GetMapping("/company/{companyId}/feed")
+    public ResponseEntity<CursorPage<JobResponse>> getCompanyJobFeed(
+            @PathVariable Long companyId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size
+    ) {
+        return ResponseEntity.ok(jobService.getCompanyJobFeed(companyId, cursor, size));
+    }
+
+    // ==================================================
+    // JOB FEED (PUBLIC, cursor paging)
+    // ==================================================
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPage<JobResponse>> getJobFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size
+    ) {
+        return ResponseEntity.ok(jobService.getJobFeed(cursor, size));
+    }
+
 	 // ==================================================
 	 // GET ALL JOBS (PUBLIC)
 	 // ==================================================
 	 @GetMapping
 	 public ResponseEntity<PagedJobResponse> getAllJobs(
 	         @RequestParam(defaultValue = "0") int page,
-	         @RequestParam(defaultValue = "12") int size
+	         @RequestParam(defaultValue = "12") int size,
+	         @RequestParam(defaultValue = "EXACT") CountMode countMode
 	 ) {
 		 System.out.println("Get all Jobs");
 	     return ResponseEntity.ok(
-	             jobService.getAllJobs(page, size)
+	             jobService.getAllJobs(page, size, countMode)
 	     );
 	 }
 
@@ -201,10 +249,11 @@ public class JobController {
     public ResponseEntity<PagedJobResponse> getJobsByIndustry(
             @RequestParam String industry,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "12") int size
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(defaultValue = "EXACT") CountMode countMode
     ) {
     	System.out.println("Industry");
-        return ResponseEntity.ok(jobService.getJobsByIndustry(industry, page, size));
+        return ResponseEntity.ok(jobService.getJobsByIndustry(industry, page, size, countMode));
     }
 
 
@@ -246,6 +295,43 @@ public class JobController {
         );
     }
 
+
+    @GetMapping("/search/feed")
+    public ResponseEntity<CursorPage<JobResponse>> searchJobFeed(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String industry,
+            @RequestParam(required = false) String companyName,
+            @RequestParam(required = false) Integer minExp,
+            @RequestParam(required = false) Integer maxExp,
+            @RequestParam(required = false) JobType jobType,
+
+            // ===== LWD FILTERS =====
+            @RequestParam(required = false) NoticeStatus noticePreference,
+            @RequestParam(required = false) Integer maxNoticePeriod,
+            @RequestParam(required = false) Boolean lwdPreferred,
+
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(
+                jobService.searchPublicJobFeed(
+                        keyword,
+                        location,
+                        industry,
+                        companyName,
+                        minExp,
+                        maxExp,
+                        jobType,
+                        noticePreference,
+                        maxNoticePeriod,
+                        lwdPreferred,
+                        cursor,
+                        size
+                )
+        );
+    }
+
     
     @GetMapping("/suggestions")
     public ResponseEntity<List<String>> getSearchSuggestions(
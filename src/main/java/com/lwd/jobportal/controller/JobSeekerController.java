@@ -11,7 +11,9 @@ import com.lwd.jobportal.dto.jobseekerdto.ProfileCompletionDTO;
 import com.lwd.jobportal.dto.jobseekerdto.SkillResponseDTO;
 import com.lwd.jobportal.dto.jobseekerdto.SocialLinksDTO;
 import com.lwd.jobportal.dto.jobseekerdto.UpdateSkillsRequest;
+import com.lwd.jobportal.security.SecurityUtils;
 import com.lwd.jobportal.service.JobSeekerService;
+import com.lwd.jobportal.util.ConditionalRequests;
 
 import lombok.RequiredArgsConstructor;
 
@@ -20,6 +22,7 @@ import java.util.Set;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 
 @RestController
@@ -40,7 +43,11 @@ public class JobSeekerController {
     }
 
     @GetMapping("/me")
-    public JobSeekerResponseDTO getMyProfile() {
+    public JobSeekerResponseDTO getMyProfile(WebRequest request) {
+        if (ConditionalRequests.notModified(request, "profile-" + SecurityUtils.getUserId(),
+                jobSeekerService.findMyProfileLastModified().orElse(null))) {
+            return null;
+        }
         return jobSeekerService.getMyProfile();
     }
     
@@ -78,7 +85,12 @@ public class JobSeekerController {
     
     @GetMapping("/user/{userId}")
     public JobSeekerResponseDTO getJobSeekerByUserId(
-    		@PathVariable Long userId) {
+    		@PathVariable Long userId,
+    		WebRequest request) {
+        if (ConditionalRequests.notModified(request, "profile-" + userId,
+                jobSeekerService.findProfileLastModified(userId).orElse(null))) {
+            return null;
+        }
         return jobSeekerService.getJobSeekerByUserId(userId);
     }
     
@@ -0,0 +1,16 @@
+package com.lwd.jobportal.dto.comman;
+
+/**
+ * How a paged endpoint computes {@code totalElements}.
+ */
+public enum CountMode {
+
+    /** COUNT query on every request (default). */
+    EXACT,
+
+    /** Total from a recent COUNT of the same query; skips the count while it is fresh. */
+    ESTIMATED,
+
+    /** No COUNT; the total is a lower bound (one past the page when more rows exist). */
+    NONE
+}
@@ -0,0 +1,20 @@
+package com.lwd.jobportal.dto.comman;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * One slice of a keyset-paginated feed. Pass {@code nextCursor} back to get the
+ * following slice; no total count is computed.
+ */
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean hasNext;
+}
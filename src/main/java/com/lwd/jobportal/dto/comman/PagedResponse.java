@@ -14,4 +14,18 @@ public class PagedResponse<T> {
     private long totalElements;
     private int totalPages;
     private boolean last;
+
+    // False when the total is a lower bound or estimate (countMode other than EXACT)
+    private boolean totalExact;
+
+    public PagedResponse(
+            List<T> content,
+            int pageNumber,
+            int pageSize,
+            long totalElements,
+            int totalPages,
+            boolean last
+    ) {
+        this(content, pageNumber, pageSize, totalElements, totalPages, last, true);
+    }
 }
@@ -20,4 +20,28 @@ public final class PaginationUtil {
                 page.isLast()
         );
     }
+
+    /**
+     * Same as {@link #buildPagedResponse(Page, List)} for a page read in {@code countMode}.
+     */
+    public static <T, R> PagedResponse<R> buildPagedResponse(
+            Page<T> page,
+            List<R> content,
+            CountMode countMode
+    ) {
+        return new PagedResponse<>(
+                content,
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.isLast(),
+                isTotalExact(page, countMode)
+        );
+    }
+
+    // Slices reaching the last page know their exact total in every mode
+    public static boolean isTotalExact(Page<?> page, CountMode countMode) {
+        return countMode == null || countMode == CountMode.EXACT || page.isLast();
+    }
 }
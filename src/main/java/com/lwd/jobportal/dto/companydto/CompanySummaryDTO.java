@@ -1,5 +1,9 @@
 package com.lwd.jobportal.dto.companydto;
 
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.*;
 
 @Data
@@ -11,4 +15,8 @@ public class CompanySummaryDTO {
     private Long id;
     private String companyName;
     private String logo;
+
+    // Not sent; part of the job detail ETag / Last-Modified
+    @JsonIgnore
+    private LocalDateTime updatedAt;
 }
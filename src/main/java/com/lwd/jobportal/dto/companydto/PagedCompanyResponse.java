@@ -10,5 +10,19 @@ public class PagedCompanyResponse {
 	private int pageSize; 
 	private long totalElements; 
 	private int totalPages; 
-	private boolean last; 
-}
\ No newline at end of file
+	private boolean last;
+
+	// False when the total is a lower bound or estimate (countMode other than EXACT)
+	private boolean totalExact;
+
+	public PagedCompanyResponse(
+	        List<CompanyResponse> content,
+	        int pageNumber,
+	        int pageSize,
+	        long totalElements,
+	        int totalPages,
+	        boolean last
+	) {
+	    this(content, pageNumber, pageSize, totalElements, totalPages, last, true);
+	}
+}
@@ -9,7 +9,7 @@ import lombok.Builder;
 import lombok.Data;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class JobResponse {
 
     // ================= BASIC INFO =================
@@ -60,6 +60,8 @@ public class JobResponse {
     // ================= META =================
     private String createdBy;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
 
     // ================= ANALYTICS =================
     private Long totalApplications;
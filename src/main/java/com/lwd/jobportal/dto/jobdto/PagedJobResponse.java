@@ -14,4 +14,18 @@ public class PagedJobResponse {
     private long totalElements;
     private int totalPages;
     private boolean last;
+
+    // False when the total is a lower bound or estimate (countMode other than EXACT)
+    private boolean totalExact;
+
+    public PagedJobResponse(
+            List<JobResponse> content,
+            int pageNumber,
+            int pageSize,
+            long totalElements,
+            int totalPages,
+            boolean last
+    ) {
+        this(content, pageNumber, pageSize, totalElements, totalPages, last, true);
+    }
 }
@@ -1,5 +1,6 @@
 package com.lwd.jobportal.dto.jobseekerdto;
 
+import com.lwd.jobportal.dto.comman.CountMode;
 import com.lwd.jobportal.enums.NoticeStatus;
 import lombok.*;
 
@@ -46,4 +47,8 @@ public class JobSeekerSearchRequest {
     // 🔽 Sorting
     private String sortBy = "totalExperience";
     private String sortDirection = "DESC";
+
+    // 🔢 Total count (EXACT, ESTIMATED or NONE)
+    @Builder.Default
+    private CountMode countMode = CountMode.EXACT;
 }
@@ -5,7 +5,6 @@ import lombok.Data;
 import java.util.List;
 
 import com.lwd.jobportal.dto.jobapplicationdto.RecentApplicationDTO;
-import com.lwd.jobportal.dto.jobdto.JobStatsDTO;
 
 @Data
 public class RecruiterDashboardDTO {
@@ -16,9 +15,6 @@ public class RecruiterDashboardDTO {
     private long interviewsScheduled;       // status = INTERVIEW
     private long shortlistedCandidates;     // status = SHORTLISTED
 
-    // Per job statistics
-    private List<JobStatsDTO> perJobStats;
-
     // Recent applications (to my jobs)
     private List<RecentApplicationDTO> recentApplications;
 }
\ No newline at end of file
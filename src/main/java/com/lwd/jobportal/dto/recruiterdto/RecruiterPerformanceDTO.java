@@ -4,6 +4,7 @@ import lombok.Data;
 
 @Data
 public class RecruiterPerformanceDTO {
+    private Long recruiterId;
     private String recruiterName;
     private long jobsPosted;
     private long applicationsReceived;
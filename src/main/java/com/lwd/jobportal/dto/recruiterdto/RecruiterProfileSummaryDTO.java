@@ -1,7 +1,6 @@
 package com.lwd.jobportal.dto.recruiterdto;
 
 import com.lwd.jobportal.dto.jobapplicationdto.RecentApplicationDTO;
-import com.lwd.jobportal.dto.jobdto.JobStatsDTO;
 import lombok.Data;
 
 import java.util.List;
@@ -25,9 +24,6 @@ public class RecruiterProfileSummaryDTO {
     private long interviewsScheduled;
     private long shortlistedCandidates;
 
-    // Per-job statistics
-    private List<JobStatsDTO> perJobStats;
-
     // Recent applications
     private List<RecentApplicationDTO> recentApplications;
 }
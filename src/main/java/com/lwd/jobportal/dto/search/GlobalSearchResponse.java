@@ -3,6 +3,7 @@ package com.lwd.jobportal.dto.search;
 import lombok.*;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
@@ -23,4 +24,18 @@ public class GlobalSearchResponse {
     private int totalPages;
 
     private long totalElements;
+
+    // ===== SEARCH MODE =====
+
+    // Total per category (jobs, companies, candidates, recruiters, skills)
+    private Map<String, Long> categoryTotals;
+
+    // False when counts were skipped: totals are then lower bounds
+    private Boolean exactCounts;
+
+    // Categories that missed their time budget and came back empty
+    private List<String> timedOutCategories;
+
+    // Categories whose search threw (e.g. a query timeout) and came back empty
+    private List<String> failedCategories;
 }
@@ -1,8 +0,0 @@
-package com.lwd.jobportal.dto.search;
-
-public interface GlobalSuggestionProjection {
-
-    Long getId();
-    String getLabel();
-    String getType();
-}
@@ -5,6 +5,10 @@ import jakarta.validation.constraints.Min;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.annotations.BatchSize;
 
 import com.lwd.jobportal.enums.ApplicationSource;
 import com.lwd.jobportal.enums.JobStatus;
@@ -170,8 +174,28 @@ public class Job {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by", nullable = false)
     private User createdBy;
+
+    // Structured form of the skills text, kept in sync by JobService
+    @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
+    @JoinTable(
+            name = "job_skills",
+            joinColumns = @JoinColumn(name = "job_id"),
+            inverseJoinColumns = @JoinColumn(name = "skill_id"),
+            uniqueConstraints = @UniqueConstraint(
+                    name = "uk_job_skill",
+                    columnNames = {"job_id", "skill_id"}
+            ),
+            indexes = @Index(name = "idx_job_skills_skill_job", columnList = "skill_id, job_id")
+    )
+    @Builder.Default
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Set<Skill> requiredSkills = new HashSet<>();
     
-    @Column(nullable = false)
+    // Only JobViewService writes this, by relative UPDATE; a full-entity save
+    // would otherwise write back a stale count over the flushed increments
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     private Long viewCount = 0L;
     
@@ -179,6 +203,12 @@ public class Job {
     @Column(nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
     private Boolean deleted = false;
 
+    // Bumped on every entity update; JobResponseCache checks cached bodies against it.
+    // Left null on new jobs so save() persists them
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
 
 
 
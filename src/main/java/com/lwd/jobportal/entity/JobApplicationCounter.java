@@ -0,0 +1,64 @@
+package com.lwd.jobportal.entity;
+
+import com.lwd.jobportal.enums.ApplicationStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of applications per (job, status), maintained alongside job_applications.
+ *
+ * Company and recruiter ids are copied from the job so their rollups are a
+ * small indexed scan over this table instead of a COUNT over all applications.
+ */
+@Entity
+@Table(
+    name = "job_application_counters",
+    indexes = {
+
+        // 🔹 Company admin: hiring funnel / totals
+        @Index(
+            name = "idx_counter_company",
+            columnList = "company_id"
+        ),
+
+        // 🔹 Recruiter dashboard totals
+        @Index(
+            name = "idx_counter_recruiter",
+            columnList = "recruiter_id"
+        )
+    }
+)
+@IdClass(JobApplicationCounterId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicationCounter {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32)
+    private ApplicationStatus status;
+
+    @Column(name = "company_id", nullable = false)
+    private Long companyId;
+
+    @Column(name = "recruiter_id", nullable = false)
+    private Long recruiterId;
+
+    @Column(name = "application_count", nullable = false)
+    private Long applicationCount;
+}
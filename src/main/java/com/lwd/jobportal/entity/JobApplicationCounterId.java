@@ -0,0 +1,18 @@
+package com.lwd.jobportal.entity;
+
+import java.io.Serializable;
+
+import com.lwd.jobportal.enums.ApplicationStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicationCounterId implements Serializable {
+
+    private Long jobId;
+    private ApplicationStatus status;
+}
@@ -9,6 +9,11 @@ import lombok.*;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.lwd.jobportal.config.SecondLevelCacheConfig;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -37,12 +42,16 @@ import java.time.LocalDateTime;
         // Filter by status
         @Index(name = "idx_user_status", columnList = "status"),
         
-        @Index(name = "idx_user_role_name", columnList = "role,name")
+        @Index(name = "idx_user_role_name", columnList = "role,name"),
+
+        // Polled by CompanyClaimInvalidations for recent company changes
+        @Index(name = "idx_user_company_changed_at", columnList = "company_changed_at")
 
 
     }
 )
-
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USER_REGION)
 public class User {
 
     @Id
@@ -88,6 +97,10 @@ public class User {
     @JoinColumn(name = "company_id")
     private Company company;
 
+    // Last change of company ownership / assignment; older tokens carry a stale companyId claim
+    @Column(name = "company_changed_at")
+    private LocalDateTime companyChangedAt;
+
     @OneToOne(
     	    mappedBy = "user",
     	    cascade = CascadeType.ALL,
@@ -6,11 +6,13 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.lwd.jobportal.dto.companydto.CompanyAnalyticsDTO;
+import com.lwd.jobportal.dto.search.CompanySearchDTO;
 import com.lwd.jobportal.entity.Company;
 
 public interface CompanyRepository extends JpaRepository<Company, Long> {
@@ -22,10 +24,20 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
     List<Company> findByIsActiveTrue();
 
     Optional<Company> findByCreatedById(Long userId);
+
+    @Query("SELECT c.id FROM Company c WHERE c.createdById = :userId")
+    Optional<Long> findIdByCreatedById(@Param("userId") Long userId);
     
     Page<Company> findByIndustry(String industry, Pageable pageable);
     
     long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
+
+    // Single row: [companies, companies created since :since]
+    @Query("""
+    	    SELECT COUNT(c), SUM(CASE WHEN c.createdAt >= :since THEN 1 ELSE 0 END)
+    	    FROM Company c
+    	""")
+    List<Object[]> countCompanyTotals(@Param("since") LocalDateTime since);
     
     @Query("SELECT ja.status, COUNT(ja) FROM JobApplication ja WHERE ja.job.company.id = :companyId GROUP BY ja.status")
     List<Object[]> countByStatusForCompany(Long companyId);
@@ -61,7 +73,7 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
     		);
 
 
-    @Query("""
+    String SEARCH_COMPANIES = """
             SELECT c FROM Company c
             WHERE c.isActive = true
             AND (
@@ -70,10 +82,23 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
                 LOWER(c.location) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
                 LOWER(c.industry) LIKE LOWER(CONCAT('%', :keyword, '%'))
             )
-        """)
-        Page<Company> searchCompanies(
-                @Param("keyword") String keyword,
-                Pageable pageable
-        );
+        """;
+
+    @Query(SEARCH_COMPANIES)
+    Page<Company> searchCompanies(@Param("keyword") String keyword, Pageable pageable);
+
+    // Same query without the count round-trip
+    @Query(SEARCH_COMPANIES)
+    Slice<Company> searchCompaniesSlice(@Param("keyword") String keyword, Pageable pageable);
 
+    // ================= SEARCH INDEX =================
+    @Query("""
+            SELECT new com.lwd.jobportal.dto.search.CompanySearchDTO(
+                c.id, c.companyName, c.location, c.industry)
+            FROM Company c
+            WHERE c.id > :afterId
+              AND c.isActive = true
+            ORDER BY c.id
+        """)
+    List<CompanySearchDTO> findCompanySearchDocuments(@Param("afterId") Long afterId, Pageable pageable);
 }
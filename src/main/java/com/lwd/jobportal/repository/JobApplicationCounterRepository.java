@@ -0,0 +1,143 @@
+package com.lwd.jobportal.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.QueryHint;
+
+import com.lwd.jobportal.entity.JobApplicationCounter;
+import com.lwd.jobportal.entity.JobApplicationCounterId;
+
+@Repository
+public interface JobApplicationCounterRepository
+        extends JpaRepository<JobApplicationCounter, JobApplicationCounterId> {
+
+    // ================= WRITES =================
+    // Native writes name the table they touch; otherwise Hibernate clears every
+    // second-level cache region on each call
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_application_counters"))
+    @Query(value = """
+    	    INSERT INTO job_application_counters
+    	        (job_id, status, company_id, recruiter_id, application_count)
+    	    VALUES (:jobId, :status, :companyId, :recruiterId, :delta)
+    	    ON DUPLICATE KEY UPDATE application_count = application_count + :delta
+    	""", nativeQuery = true)
+    	int increment(
+    	        @Param("jobId") Long jobId,
+    	        @Param("status") String status,
+    	        @Param("companyId") Long companyId,
+    	        @Param("recruiterId") Long recruiterId,
+    	        @Param("delta") long delta
+    	);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_application_counters"))
+    @Query(value = "DELETE FROM job_application_counters WHERE job_id = :jobId", nativeQuery = true)
+    int deleteCountersForJob(@Param("jobId") Long jobId);
+
+    // Recount one job from job_applications
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_application_counters"))
+    @Query(value = """
+    	    INSERT INTO job_application_counters
+    	        (job_id, status, company_id, recruiter_id, application_count)
+    	    SELECT ja.job_id, ja.status, j.company_id, j.created_by, COUNT(*)
+    	    FROM job_applications ja
+    	    JOIN jobs j ON j.id = ja.job_id
+    	    WHERE ja.job_id = :jobId
+    	    GROUP BY ja.job_id, ja.status, j.company_id, j.created_by
+    	""", nativeQuery = true)
+    int rebuildCountersForJob(@Param("jobId") Long jobId);
+
+    // ================= RECONCILIATION =================
+
+    // [jobId, status, count] recounted from job_applications (read only)
+    @Query("""
+    	    SELECT ja.job.id, ja.status, COUNT(ja)
+    	    FROM JobApplication ja
+    	    WHERE ja.job.id IN :jobIds
+    	    GROUP BY ja.job.id, ja.status
+    	""")
+    	List<Object[]> countApplicationsForJobs(@Param("jobIds") Collection<Long> jobIds);
+
+    // ================= PER JOB =================
+
+    // [status, count]
+    @Query("""
+    	    SELECT c.status, c.applicationCount
+    	    FROM JobApplicationCounter c
+    	    WHERE c.jobId = :jobId
+    	""")
+    	List<Object[]> countsByJob(@Param("jobId") Long jobId);
+
+    @Query("""
+    	    SELECT COALESCE(SUM(c.applicationCount), 0)
+    	    FROM JobApplicationCounter c
+    	    WHERE c.jobId = :jobId
+    	""")
+    	long totalForJob(@Param("jobId") Long jobId);
+
+    // [jobId, total]
+    @Query("""
+    	    SELECT c.jobId, SUM(c.applicationCount)
+    	    FROM JobApplicationCounter c
+    	    WHERE c.jobId IN :jobIds
+    	    GROUP BY c.jobId
+    	""")
+    	List<Object[]> totalsForJobs(@Param("jobIds") Collection<Long> jobIds);
+
+    // [jobId, status, count]
+    @Query("""
+    	    SELECT c.jobId, c.status, c.applicationCount
+    	    FROM JobApplicationCounter c
+    	    WHERE c.jobId IN :jobIds
+    	""")
+    	List<Object[]> countsForJobs(@Param("jobIds") Collection<Long> jobIds);
+
+    // ================= ROLLUPS =================
+
+    @Query("SELECT COALESCE(SUM(c.applicationCount), 0) FROM JobApplicationCounter c")
+    long totalApplications();
+
+    // [status, count]
+    @Query("""
+    	    SELECT c.status, SUM(c.applicationCount)
+    	    FROM JobApplicationCounter c
+    	    WHERE c.companyId = :companyId
+    	    GROUP BY c.status
+    	""")
+    	List<Object[]> countsByCompany(@Param("companyId") Long companyId);
+
+    @Query("""
+    	    SELECT COALESCE(SUM(c.applicationCount), 0)
+    	    FROM JobApplicationCounter c
+    	    WHERE c.companyId = :companyId
+    	""")
+    	long totalForCompany(@Param("companyId") Long companyId);
+
+    // [status, count]
+    @Query("""
+    	    SELECT c.status, SUM(c.applicationCount)
+    	    FROM JobApplicationCounter c
+    	    WHERE c.recruiterId = :recruiterId
+    	    GROUP BY c.status
+    	""")
+    	List<Object[]> countsByRecruiter(@Param("recruiterId") Long recruiterId);
+
+    @Query("""
+    	    SELECT COALESCE(SUM(c.applicationCount), 0)
+    	    FROM JobApplicationCounter c
+    	    WHERE c.recruiterId = :recruiterId
+    	""")
+    	long totalForRecruiter(@Param("recruiterId") Long recruiterId);
+}
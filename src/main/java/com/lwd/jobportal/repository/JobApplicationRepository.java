@@ -141,6 +141,7 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
            "WHERE ja.appliedAt >= :weekAgo GROUP BY DATE(ja.appliedAt)")
     List<Object[]> countApplicationsPerDay(LocalDateTime weekAgo);
     
+    @EntityGraph(attributePaths = {"job", "jobSeeker"})
     List<JobApplication> findTop5ByOrderByAppliedAtDesc();
     
     // funnel queries for company
@@ -1,11 +1,13 @@
 package com.lwd.jobportal.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -13,8 +15,11 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.lwd.jobportal.dto.search.JobSearchDTO;
 import com.lwd.jobportal.entity.Job;
 import com.lwd.jobportal.enums.JobStatus;
+import com.lwd.jobportal.search.JobDocument;
+import com.lwd.jobportal.search.JobMatchProfile;
 import com.lwd.jobportal.specification.IndustryCount;
 
 @Repository
@@ -27,6 +32,14 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
 	List<Job> findByCreatedById(Long userId);
 	
     Page<Job> findByCreatedById(Long userId, Pageable pageable);
+
+    // [jobId, title] of a recruiter's jobs, for per-job statistics
+    @Query("""
+    	    SELECT j.id, j.title
+    	    FROM Job j
+    	    WHERE j.createdBy.id = :recruiterId
+    	""")
+    	Page<Object[]> findJobTitlesByCreatedById(@Param("recruiterId") Long recruiterId, Pageable pageable);
     
     long countByCompanyId(Long companyId);
     
@@ -38,13 +51,6 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
     Optional<Job> findByIdAndDeletedFalse(Long id);
 
 
-    @EntityGraph(attributePaths = {"company"})
-    List<Job> findByStatusAndCreatedAtLessThanOrderByCreatedAtDesc(
-            JobStatus status,
-            LocalDateTime lastSeen,
-            Pageable pageable
-    );
-    
     @Query("""
     		SELECT j FROM Job j
     		JOIN FETCH j.company
@@ -58,6 +64,13 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
             JobStatus status,
             Pageable pageable
     );
+
+    // Same query without the count round-trip
+    Slice<Job> findSliceByIndustryIgnoreCaseAndStatus(
+            String industry,
+            JobStatus status,
+            Pageable pageable
+    );
     
     @Query("""
     	    SELECT j FROM Job j
@@ -159,6 +172,28 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
     	""")
     	List<Job> findTrendingJobs(Pageable pageable);
 
+    // [version, company updatedAt] of a live job, to validate a cached response; empty when deleted
+    @Query("""
+    	    SELECT j.version, c.updatedAt
+    	    FROM Job j
+    	    LEFT JOIN j.company c
+    	    WHERE j.id = :jobId
+    	    AND j.deleted = false
+    	""")
+    	List<Object[]> findResponseRevision(@Param("jobId") Long jobId);
+
+    // [jobId, viewCount, createdAt, applications] for every public job; applications
+    // are summed from the per-status counters (primary key lookup per job)
+    @Query("""
+    	    SELECT j.id, j.viewCount, j.createdAt, COALESCE(SUM(c.applicationCount), 0L)
+    	    FROM Job j
+    	    LEFT JOIN JobApplicationCounter c ON c.jobId = j.id
+    	    WHERE j.deleted = false
+    	    AND j.status = 'OPEN'
+    	    GROUP BY j.id, j.viewCount, j.createdAt
+    	""")
+    	List<Object[]> findTrendingSignals();
+
     @Query("""
     	       SELECT j.industry AS industry, COUNT(j) AS count
     	       FROM Job j
@@ -173,15 +208,27 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
     long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
     long countByCompanyIdAndStatus(Long companyId, JobStatus status);
     long countByCreatedByIdAndStatus(Long recruiterId, JobStatus status);
+    @EntityGraph(attributePaths = {"company"})
     List<Job> findTop5ByOrderByCreatedAtDesc();
     List<Job> findByCompanyIdOrderByCreatedAtDesc(Long companyId, Pageable pageable);
     List<Job> findByCreatedByIdOrderByCreatedAtDesc(Long recruiterId, Pageable pageable);
     
-    @Query("SELECT j FROM Job j WHERE j.expiresAt BETWEEN :now AND :weekLater")
-    List<Job> findJobsExpiringSoon(LocalDateTime now, LocalDateTime weekLater);
-    
+    // Single row: [jobs, open jobs, jobs created since :since, jobs expiring between :now and :until]
+    @Query("""
+    	    SELECT COUNT(j),
+    	           SUM(CASE WHEN j.status = com.lwd.jobportal.enums.JobStatus.OPEN THEN 1 ELSE 0 END),
+    	           SUM(CASE WHEN j.createdAt >= :since THEN 1 ELSE 0 END),
+    	           SUM(CASE WHEN j.expiresAt BETWEEN :now AND :until THEN 1 ELSE 0 END)
+    	    FROM Job j
+    	""")
+    List<Object[]> countJobTotals(
+    		@Param("since") LocalDateTime since,
+    		@Param("now") LocalDateTime now,
+    		@Param("until") LocalDateTime until
+    );
+
     @Query("""
-    		SELECT j
+    		SELECT COUNT(j)
     		FROM Job j
     		WHERE NOT EXISTS (
     		    SELECT 1
@@ -189,7 +236,7 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
     		    WHERE ja.job = j
     		)
     		""")
-    		List<Job> findJobsWithoutApplications();
+    		long countJobsWithoutApplications();
 
     @Query("SELECT j.industry, COUNT(j) FROM Job j GROUP BY j.industry")
     List<Object[]> countJobsPerIndustry();
@@ -215,7 +262,7 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
 
     
     
-    @Query("""
+    String SEARCH_JOBS = """
     	    SELECT j FROM Job j
     	    LEFT JOIN j.company c
     	    WHERE j.deleted = false
@@ -227,55 +274,135 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
     	        OR LOWER(c.companyName) LIKE LOWER(CONCAT('%', :keyword, '%'))
     	    )
     	    ORDER BY j.createdAt DESC
-    	""")
-    	Page<Job> searchJobs(
-    	        @Param("keyword") String keyword,
-    	        Pageable pageable
-    	);
+    	""";
+
+    @Query(SEARCH_JOBS)
+    Page<Job> searchJobs(@Param("keyword") String keyword, Pageable pageable);
+
+    // Same query without the count round-trip
+    @Query(SEARCH_JOBS)
+    Slice<Job> searchJobsSlice(@Param("keyword") String keyword, Pageable pageable);
     
     
     
     
     
-    // ================= ADMIN =================
-    @Query("""
-           SELECT j FROM Job j
-           WHERE (:keyword IS NULL 
+    String KEYWORD_FILTER = """
+                  :keyword IS NULL
                   OR LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
                   OR LOWER(j.description) LIKE LOWER(CONCAT('%', :keyword, '%'))
                   OR LOWER(j.location) LIKE LOWER(CONCAT('%', :keyword, '%'))
-                  OR LOWER(j.industry) LIKE LOWER(CONCAT('%', :keyword, '%')))
-           """)
+                  OR LOWER(j.industry) LIKE LOWER(CONCAT('%', :keyword, '%'))
+           """;
+
+    // ================= ADMIN =================
+    String SEARCH_ALL_JOBS = "SELECT j FROM Job j WHERE (" + KEYWORD_FILTER + ")";
+
+    @Query(SEARCH_ALL_JOBS)
     Page<Job> searchAllJobs(@Param("keyword") String keyword, Pageable pageable);
 
+    @Query(SEARCH_ALL_JOBS)
+    Slice<Job> searchAllJobsSlice(@Param("keyword") String keyword, Pageable pageable);
+
     // ================= RECRUITER_ADMIN =================
-    @Query("""
-           SELECT j FROM Job j
-           WHERE j.company.id = :companyId
-             AND (:keyword IS NULL 
-                  OR LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
-                  OR LOWER(j.description) LIKE LOWER(CONCAT('%', :keyword, '%'))
-                  OR LOWER(j.location) LIKE LOWER(CONCAT('%', :keyword, '%'))
-                  OR LOWER(j.industry) LIKE LOWER(CONCAT('%', :keyword, '%')))
-           """)
+    String SEARCH_JOBS_BY_COMPANY =
+            "SELECT j FROM Job j WHERE j.company.id = :companyId AND (" + KEYWORD_FILTER + ")";
+
+    @Query(SEARCH_JOBS_BY_COMPANY)
     Page<Job> searchJobsByCompany(@Param("companyId") Long companyId,
                                   @Param("keyword") String keyword,
                                   Pageable pageable);
 
+    @Query(SEARCH_JOBS_BY_COMPANY)
+    Slice<Job> searchJobsByCompanySlice(@Param("companyId") Long companyId,
+                                        @Param("keyword") String keyword,
+                                        Pageable pageable);
+
     // ================= RECRUITER =================
-    @Query("""
-           SELECT j FROM Job j
-           WHERE j.createdBy.id = :userId
-             AND (:keyword IS NULL 
-                  OR LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
-                  OR LOWER(j.description) LIKE LOWER(CONCAT('%', :keyword, '%'))
-                  OR LOWER(j.location) LIKE LOWER(CONCAT('%', :keyword, '%'))
-                  OR LOWER(j.industry) LIKE LOWER(CONCAT('%', :keyword, '%')))
-           """)
+    String SEARCH_JOBS_BY_CREATOR =
+            "SELECT j FROM Job j WHERE j.createdBy.id = :userId AND (" + KEYWORD_FILTER + ")";
+
+    @Query(SEARCH_JOBS_BY_CREATOR)
     Page<Job> searchJobsByCreator(@Param("userId") Long userId,
                                   @Param("keyword") String keyword,
                                   Pageable pageable);
 
+    @Query(SEARCH_JOBS_BY_CREATOR)
+    Slice<Job> searchJobsByCreatorSlice(@Param("userId") Long userId,
+                                        @Param("keyword") String keyword,
+                                        Pageable pageable);
+
+    // ================= SEARCH INDEX =================
+    // Index loaders are walked by id (see KeysetLoader)
+    @Query("""
+           SELECT new com.lwd.jobportal.search.JobDocument(
+               j.id, j.title, j.location, j.industry,
+               c.id, c.companyName, j.jobType,
+               j.minExperience, j.maxExperience,
+               j.noticePreference, j.maxNoticePeriod, j.lwdPreferred,
+               j.createdAt)
+           FROM Job j
+           LEFT JOIN j.company c
+           WHERE j.id > :afterId
+             AND j.deleted = false
+             AND j.status = 'OPEN'
+           ORDER BY j.id
+           """)
+    List<JobDocument> findPublicJobDocuments(@Param("afterId") Long afterId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"company"})
+    List<Job> findByIdIn(Collection<Long> ids);
+
+    // ================= MATCH INDEX =================
+    @Query("""
+           SELECT new com.lwd.jobportal.search.JobMatchProfile(
+               j.id, j.createdAt, j.minExperience, j.maxExperience,
+               j.minSalary, j.maxSalary, j.maxNoticePeriod,
+               j.location, j.industry)
+           FROM Job j
+           WHERE j.id > :afterId
+             AND j.deleted = false
+             AND j.status = 'OPEN'
+           ORDER BY j.id
+           """)
+    List<JobMatchProfile> findJobMatchProfiles(@Param("afterId") Long afterId, Pageable pageable);
+
+    // [jobId, skillId] from job_skills for a range of jobs, grouped by job
+    @Query("""
+           SELECT j.id, s.id
+           FROM Job j
+           JOIN j.requiredSkills s
+           WHERE j.id BETWEEN :fromId AND :toId
+           ORDER BY j.id, s.id
+           """)
+    List<Object[]> findJobSkillIds(@Param("fromId") Long fromId, @Param("toId") Long toId);
 
+    // ================= BATCH JOBS =================
+    // All job ids, walked by id
+    @Query("SELECT j.id FROM Job j WHERE j.id > :afterId ORDER BY j.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 
+    // ================= JOB SKILLS BACKFILL =================
+    // [jobId, skills] for jobs with non-blank skills text but no job_skills rows, walked by id
+    @Query("""
+           SELECT j.id, j.skills FROM Job j
+           WHERE j.id > :afterId
+             AND j.skills IS NOT NULL
+             AND TRIM(j.skills) <> ''
+             AND j.requiredSkills IS EMPTY
+           ORDER BY j.id
+           """)
+    List<Object[]> findJobsWithoutSkillRows(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+           SELECT new com.lwd.jobportal.dto.search.JobSearchDTO(
+               j.id, j.title, j.location, j.industry,
+               c.companyName, CAST(j.jobType AS String))
+           FROM Job j
+           LEFT JOIN j.company c
+           WHERE j.id > :afterId
+             AND j.deleted = false
+           ORDER BY j.id
+           """)
+    List<JobSearchDTO> findJobSearchDocuments(@Param("afterId") Long afterId, Pageable pageable);
 }
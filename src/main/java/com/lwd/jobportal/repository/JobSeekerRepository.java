@@ -2,6 +2,7 @@ package com.lwd.jobportal.repository;
 
 import com.lwd.jobportal.entity.JobSeeker;
 import com.lwd.jobportal.enums.NoticeStatus;
+import com.lwd.jobportal.search.CandidateProfile;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,9 +12,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +27,15 @@ public interface JobSeekerRepository extends
 
     Optional<JobSeeker> findByUserId(Long userId);
 
+    // [profile updatedAt, user updatedAt]; validators for conditional GETs
+    @Query("""
+            SELECT js.updatedAt, u.updatedAt
+            FROM JobSeeker js
+            JOIN js.user u
+            WHERE u.id = :userId
+            """)
+    List<Object[]> findProfileTimestamps(@Param("userId") Long userId);
+
     // Recruiter filters
     List<JobSeeker> findByNoticeStatus(NoticeStatus status);
 
@@ -43,6 +55,32 @@ public interface JobSeekerRepository extends
     Page<JobSeeker> findAll(Specification<JobSeeker> spec, Pageable pageable);
 
 
+    // ================= CANDIDATE INDEX =================
+    @Query("""
+            SELECT new com.lwd.jobportal.search.CandidateProfile(
+                js.id, js.totalExperience, js.expectedCTC, js.noticeStatus, js.noticePeriod,
+                js.immediateJoiner, js.availableFrom, js.profileCompletion)
+            FROM JobSeeker js
+            WHERE js.id > :afterId
+            ORDER BY js.id
+            """)
+    List<CandidateProfile> findCandidateProfiles(@Param("afterId") Long afterId, Pageable pageable);
+
+    // [jobSeekerId, skillId] for a range of job seekers, grouped by job seeker
+    @Query("""
+            SELECT js.id, s.id
+            FROM JobSeeker js
+            JOIN js.skills s
+            WHERE js.id BETWEEN :fromId AND :toId
+            ORDER BY js.id, s.id
+            """)
+    List<Object[]> findCandidateSkillIds(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // Page hydration for index searches
+    @EntityGraph(attributePaths = {"user"})
+    List<JobSeeker> findByIdIn(Collection<Long> ids);
+
+
     @Modifying
     @Query("""
             UPDATE JobSeeker js
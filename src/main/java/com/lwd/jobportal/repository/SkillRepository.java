@@ -1,9 +1,11 @@
 package com.lwd.jobportal.repository;
 
+import com.lwd.jobportal.dto.search.SkillDTO;
 import com.lwd.jobportal.entity.Skill;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -38,12 +40,18 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     Page<Skill> findByNameContainingIgnoreCase(String keyword, Pageable pageable);
 
     
-    @Query("""
+    String SEARCH_SKILLS = """
     		SELECT s FROM Skill s
     		WHERE LOWER(s.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
     		ORDER BY s.name ASC
-    		""")
-    		Page<Skill> searchSkills(String keyword, Pageable pageable);
+    		""";
+
+    @Query(SEARCH_SKILLS)
+    Page<Skill> searchSkills(String keyword, Pageable pageable);
+
+    // Same query without the count round-trip
+    @Query(SEARCH_SKILLS)
+    Slice<Skill> searchSkillsSlice(String keyword, Pageable pageable);
 
     @Query("""
     	    SELECT s FROM Skill s
@@ -55,5 +63,20 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     	        Pageable pageable
     	);
 
+    @Query("""
+    	    SELECT new com.lwd.jobportal.dto.search.SkillDTO(s.id, s.name)
+    	    FROM Skill s
+    	    WHERE s.id > :afterId
+    	    ORDER BY s.id
+    	""")
+    List<SkillDTO> findSkillSearchDocuments(@Param("afterId") Long afterId, Pageable pageable);
 
+    // [skillId, number of job seekers listing it]
+    @Query("""
+    	    SELECT s.id, COUNT(js.id)
+    	    FROM JobSeeker js
+    	    JOIN js.skills s
+    	    GROUP BY s.id
+    	""")
+    List<Object[]> countJobSeekersPerSkill();
 }
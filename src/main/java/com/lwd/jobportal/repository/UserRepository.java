@@ -7,16 +7,20 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.lwd.jobportal.dto.search.UserSearchDTO;
 import com.lwd.jobportal.entity.Company;
 import com.lwd.jobportal.entity.User;
 import com.lwd.jobportal.enums.Role;
 import com.lwd.jobportal.enums.UserStatus;
+import com.lwd.jobportal.specification.RecruiterPerformanceProjection;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -56,8 +60,51 @@ public interface UserRepository extends JpaRepository<User, Long> {
 	 
 	long countByRole(Role role);
 	long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
+
+	// [role, users, users created since :since]
+	@Query("""
+		    SELECT u.role, COUNT(u), SUM(CASE WHEN u.createdAt >= :since THEN 1 ELSE 0 END)
+		    FROM User u
+		    GROUP BY u.role
+		""")
+	List<Object[]> countUsersByRole(@Param("since") LocalDateTime since);
 	long countByCompanyIdAndRoleIn(Long companyId, Collection<Role> roles);
 	List<User> findByCompanyIdAndRoleIn(Long companyId, Collection<Role> roles);
+
+	@Modifying
+	@Query("UPDATE User u SET u.companyChangedAt = :changedAt WHERE u.id = :userId")
+	int markCompanyChanged(@Param("userId") Long userId, @Param("changedAt") LocalDateTime changedAt);
+
+	// [userId, companyChangedAt]
+	@Query("SELECT u.id, u.companyChangedAt FROM User u WHERE u.companyChangedAt > :since")
+	List<Object[]> findCompanyChangesSince(@Param("since") LocalDateTime since);
+
+	// One row per recruiter: job totals grouped by creator, applications from the counter table
+	@Query(value = """
+		    SELECT u.id AS recruiterId,
+		           u.name AS recruiterName,
+		           COUNT(j.id) AS jobsPosted,
+		           SUM(CASE WHEN j.status = com.lwd.jobportal.enums.JobStatus.OPEN THEN 1 ELSE 0 END) AS activeJobs,
+		           (SELECT COALESCE(SUM(c.applicationCount), 0)
+		            FROM JobApplicationCounter c
+		            WHERE c.recruiterId = u.id) AS applicationsReceived
+		    FROM User u
+		    LEFT JOIN Job j ON j.createdBy = u
+		    WHERE u.company.id = :companyId
+		    AND u.role IN :roles
+		    GROUP BY u.id, u.name
+		""",
+		countQuery = """
+		    SELECT COUNT(u)
+		    FROM User u
+		    WHERE u.company.id = :companyId
+		    AND u.role IN :roles
+		""")
+	Page<RecruiterPerformanceProjection> findRecruiterPerformance(
+	        @Param("companyId") Long companyId,
+	        @Param("roles") Collection<Role> roles,
+	        Pageable pageable
+	);
 	
 	@EntityGraph(attributePaths = {"jobSeekerProfile"})
 	@Query("SELECT u FROM User u WHERE u.role = 'JOB_SEEKER'")
@@ -73,7 +120,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
 	
 	
 	
-	@Query("""
+	String SEARCH_JOB_SEEKERS = """
 			SELECT u FROM User u
 			WHERE u.role = com.lwd.jobportal.enums.Role.JOB_SEEKER
 			AND (
@@ -81,10 +128,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
 			    OR LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%'))
 			    OR u.phone LIKE CONCAT('%', :keyword, '%')
 			)
-			""")
-			Page<User> searchJobSeekers(String keyword, Pageable pageable);
+			""";
 
-	@Query("""
+	@Query(SEARCH_JOB_SEEKERS)
+	Page<User> searchJobSeekers(String keyword, Pageable pageable);
+
+	// Same query without the count round-trip
+	@Query(SEARCH_JOB_SEEKERS)
+	Slice<User> searchJobSeekersSlice(String keyword, Pageable pageable);
+
+	String SEARCH_RECRUITERS = """
 			SELECT u FROM User u
 			LEFT JOIN u.company c
 			WHERE (u.role = com.lwd.jobportal.enums.Role.RECRUITER 
@@ -95,8 +148,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
 			    OR u.phone LIKE CONCAT('%', :keyword, '%')
 			    OR LOWER(c.companyName) LIKE LOWER(CONCAT('%', :keyword, '%'))
 			)
-			""")
-			Page<User> searchRecruiters(String keyword, Pageable pageable);
+			""";
+
+	@Query(SEARCH_RECRUITERS)
+	Page<User> searchRecruiters(String keyword, Pageable pageable);
+
+	// Same query without the count round-trip
+	@Query(SEARCH_RECRUITERS)
+	Slice<User> searchRecruitersSlice(String keyword, Pageable pageable);
 
 	@Query("""
 		    SELECT u FROM User u
@@ -134,8 +193,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
 		        Pageable pageable
 		);
 
-
-
-
-
+	// ================= SEARCH INDEX =================
+	@Query("""
+		    SELECT new com.lwd.jobportal.dto.search.UserSearchDTO(
+		        u.id, u.name, u.email, u.phone, c.companyName)
+		    FROM User u
+		    LEFT JOIN u.company c
+		    WHERE u.id > :afterId
+		      AND u.role IN :roles
+		    ORDER BY u.id
+		""")
+	List<UserSearchDTO> findUserSearchDocuments(
+	        @Param("roles") Collection<Role> roles,
+	        @Param("afterId") Long afterId,
+	        Pageable pageable
+	);
 }
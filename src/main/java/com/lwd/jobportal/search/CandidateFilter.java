@@ -0,0 +1,21 @@
+package com.lwd.jobportal.search;
+
+import java.time.LocalDate;
+
+import com.lwd.jobportal.enums.NoticeStatus;
+
+/**
+ * Structured predicates {@link CandidateIndex} evaluates from its columns.
+ * A null bound is not applied; a candidate with no value fails any applied bound.
+ */
+public record CandidateFilter(
+        Integer minExperience,
+        Integer maxExperience,
+        Double minExpectedCTC,
+        Double maxExpectedCTC,
+        NoticeStatus noticeStatus,
+        Integer maxNoticePeriod,
+        Boolean immediateJoiner,
+        LocalDate availableBefore
+) {
+}
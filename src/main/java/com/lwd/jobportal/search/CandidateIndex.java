@@ -0,0 +1,530 @@
+package com.lwd.jobportal.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.lwd.jobportal.repository.JobSeekerRepository;
+import com.lwd.jobportal.util.KeysetLoader;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory recruiter candidate search over every job seeker profile.
+ *
+ * Filter attributes are held column-wise in primitive arrays indexed by job
+ * seeker id (experience, expected CTC, notice status ordinal, notice period,
+ * immediate joiner, availability as epoch day, profile completion), so a filter
+ * is one pass over the arrays without touching the database. Each skill id also
+ * maps to a compressed bitmap of the job seekers listing it:
+ * <ul>
+ *   <li>skill search – ORs the requested skills' bitmaps, filters the union and
+ *       ranks by requested skills held, then profile completion and experience</li>
+ *   <li>filter search – scans all columns and keeps the top rows of the page
+ *       by the requested sort</li>
+ * </ul>
+ * Only the returned page of ids is loaded from the database. Built at startup,
+ * kept current through {@link SearchIndexSync} and rebuilt every
+ * {@code lwd.search.candidates.refresh-ms}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CandidateIndex {
+
+    // Marks a null Integer column (also an unused slot in profileCompletion)
+    private static final int NO_VALUE = Integer.MIN_VALUE;
+    // Lowest real value; an applied bound starts here so NO_VALUE fails it
+    private static final int ANY_VALUE = NO_VALUE + 1;
+
+    // Marks a null enum or boolean column; ANY in a filter matches every row
+    private static final byte NULL_CODE = -1;
+    private static final int ANY = -2;
+
+    private final JobSeekerRepository jobSeekerRepository;
+
+    // Searches read the state in place; writes take the write lock
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final IndexRebuilder<State> index =
+            new IndexRebuilder<>("Candidate index", new State(), lock.writeLock(), 0L);
+
+    public boolean isReady() {
+        return index.isReady();
+    }
+
+    // ==================================================
+    // QUERY
+    // ==================================================
+
+    /**
+     * One page of job seeker ids holding any of the given skills and passing the
+     * filter, most requested skills first. The total is exact.
+     */
+    public Page<Long> searchBySkills(Collection<Long> skillIds, CandidateFilter filter, Pageable pageable) {
+
+        Bounds bounds = Bounds.of(filter);
+
+        lock.readLock().lock();
+        try {
+            State current = index.state();
+
+            List<RoaringBitmap> bitmaps = skillIds.stream()
+                    .distinct()
+                    .map(current.seekersBySkill::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+
+            if (bitmaps.isEmpty()) {
+                return Page.empty(pageable);
+            }
+
+            RoaringBitmap any = FastAggregation.or(bitmaps.iterator());
+
+            long[] keys = new long[any.getCardinality()];
+            int matched = 0;
+
+            IntIterator candidates = any.getIntIterator();
+            while (candidates.hasNext()) {
+                int seekerId = candidates.next();
+                if (!current.matches(seekerId, bounds)) {
+                    continue;
+                }
+
+                int overlap = 0;
+                for (RoaringBitmap bitmap : bitmaps) {
+                    if (bitmap.contains(seekerId)) {
+                        overlap++;
+                    }
+                }
+                keys[matched++] = current.rankKey(seekerId, overlap);
+            }
+
+            // Ascending sort; the best candidates are at the end
+            Arrays.sort(keys, 0, matched);
+
+            List<Long> page = new ArrayList<>(pageable.getPageSize());
+            for (long i = matched - 1 - pageable.getOffset(); i >= 0 && page.size() < pageable.getPageSize(); i--) {
+                page.add((long) seekerIdOf(keys[(int) i]));
+            }
+
+            return new PageImpl<>(page, pageable, matched);
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * One page of job seeker ids passing the filter, ordered by {@code sort}
+     * with missing values lowest (as MySQL orders NULLs) and ties by id. The
+     * total is exact.
+     */
+    public Page<Long> search(CandidateFilter filter, CandidateSort sort, boolean descending, Pageable pageable) {
+
+        Bounds bounds = Bounds.of(filter);
+
+        lock.readLock().lock();
+        try {
+            State current = index.state();
+            TopRows top = new TopRows(
+                    (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE - 8),
+                    current.order(sort, descending));
+
+            int matched = 0;
+            for (int seekerId = 0, slots = current.slots(); seekerId < slots; seekerId++) {
+                if (current.matches(seekerId, bounds)) {
+                    matched++;
+                    top.offer(seekerId);
+                }
+            }
+
+            List<Long> page = top.sorted().stream()
+                    .skip(pageable.getOffset())
+                    .map(Integer::longValue)
+                    .toList();
+
+            return new PageImpl<>(page, pageable, matched);
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * Sort key, higher ranks first:
+     * overlap (7 bits) | profile completion + 1 (7 bits) | experience + 1 (17 bits) | inverted id (32 bits).
+     * A null experience sorts lowest, as in the SQL DESC ordering; ties go to the lower id.
+     */
+    private static long rankKey(int overlap, int completion, int experience, int seekerId) {
+        long completionBits = Math.min(Math.max(completion + 1, 0), 0x7F);
+        long experienceBits = experience == NO_VALUE ? 0 : Math.min(Math.max(experience + 1, 0), 0x1FFFF);
+
+        return ((long) Math.min(overlap, 0x7F) << 56)
+                | (completionBits << 49)
+                | (experienceBits << 32)
+                | (Integer.MAX_VALUE - seekerId);
+    }
+
+    private static int seekerIdOf(long rankKey) {
+        return Integer.MAX_VALUE - (int) (rankKey & 0xFFFFFFFFL);
+    }
+
+    // ==================================================
+    // BUILD
+    // ==================================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${lwd.search.candidates.refresh-ms:600000}",
+            fixedDelayString = "${lwd.search.candidates.refresh-ms:600000}"
+    )
+    public void rebuild() {
+        State built = index.rebuild(() -> {
+            State fresh = new State();
+
+            KeysetLoader.forEachBatch(jobSeekerRepository::findCandidateProfiles, CandidateProfile::getId, batch -> {
+                batch.forEach(fresh::putColumns);
+                loadSkills(fresh, batch.get(0).getId(), batch.get(batch.size() - 1).getId());
+            });
+
+            return fresh;
+        });
+
+        if (built != null) {
+            log.info("Candidate index built with {} job seekers", built.size());
+        }
+    }
+
+    // Skills of the seekers in one profile batch; rows arrive grouped by seeker
+    private void loadSkills(State target, Long fromId, Long toId) {
+        List<Long> skills = new ArrayList<>();
+        long seeker = 0L;
+
+        for (Object[] row : jobSeekerRepository.findCandidateSkillIds(fromId, toId)) {
+            long seekerId = (Long) row[0];
+            if (seeker != seekerId) {
+                target.putSkills(seeker, skills);
+                skills.clear();
+                seeker = seekerId;
+            }
+            skills.add((Long) row[1]);
+        }
+        target.putSkills(seeker, skills);
+    }
+
+    // ==================================================
+    // INCREMENTAL UPDATES (called after commit)
+    // ==================================================
+
+    public void put(CandidateProfile profile) {
+        apply(target -> {
+            target.putColumns(profile);
+            target.putSkills(profile.getId(), profile.getSkillIds());
+        });
+    }
+
+    private void apply(Consumer<State> op) {
+        index.apply(op);
+    }
+
+    // ==================================================
+    // FILTER
+    // ==================================================
+
+    /**
+     * A {@link CandidateFilter} as primitive ranges, so every row is checked with
+     * the same comparisons whichever filters are set. An unset range spans all
+     * values including NO_VALUE; a set one starts at ANY_VALUE.
+     */
+    private record Bounds(
+            int minExperience, int maxExperience,
+            boolean anyCTC, double minCTC, double maxCTC,
+            int noticeStatus,
+            int minNoticePeriod, int maxNoticePeriod,
+            int immediateJoiner,
+            int minAvailableFrom, int maxAvailableFrom
+    ) {
+
+        static Bounds of(CandidateFilter filter) {
+            boolean experience = filter.minExperience() != null || filter.maxExperience() != null;
+
+            return new Bounds(
+                    filter.minExperience() != null ? filter.minExperience() : (experience ? ANY_VALUE : NO_VALUE),
+                    filter.maxExperience() != null ? filter.maxExperience() : Integer.MAX_VALUE,
+
+                    filter.minExpectedCTC() == null && filter.maxExpectedCTC() == null,
+                    filter.minExpectedCTC() != null ? filter.minExpectedCTC() : Double.NEGATIVE_INFINITY,
+                    filter.maxExpectedCTC() != null ? filter.maxExpectedCTC() : Double.POSITIVE_INFINITY,
+
+                    filter.noticeStatus() != null ? filter.noticeStatus().ordinal() : ANY,
+
+                    filter.maxNoticePeriod() != null ? ANY_VALUE : NO_VALUE,
+                    filter.maxNoticePeriod() != null ? filter.maxNoticePeriod() : Integer.MAX_VALUE,
+
+                    filter.immediateJoiner() != null ? (filter.immediateJoiner() ? 1 : 0) : ANY,
+
+                    filter.availableBefore() != null ? ANY_VALUE : NO_VALUE,
+                    filter.availableBefore() != null
+                            ? (int) filter.availableBefore().toEpochDay()
+                            : Integer.MAX_VALUE
+            );
+        }
+    }
+
+    private interface SeekerOrder {
+        int compare(int a, int b);
+    }
+
+    /**
+     * The first {@code limit} ids by {@code order}: a heap with the worst kept
+     * id at the root, so a scan holds only one page's worth of rows.
+     */
+    private static class TopRows {
+
+        private final int limit;
+        private final SeekerOrder order;
+        private int[] heap = new int[16];
+        private int size;
+
+        TopRows(int limit, SeekerOrder order) {
+            this.limit = limit;
+            this.order = order;
+        }
+
+        void offer(int seekerId) {
+            if (size < limit) {
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, Math.min(heap.length * 2, limit));
+                }
+                heap[size] = seekerId;
+                siftUp(size++);
+            } else if (limit > 0 && order.compare(seekerId, heap[0]) < 0) {
+                heap[0] = seekerId;
+                siftDown(0);
+            }
+        }
+
+        List<Integer> sorted() {
+            List<Integer> rows = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                rows.add(heap[i]);
+            }
+            rows.sort(order::compare);
+            return rows;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (order.compare(heap[i], heap[parent]) <= 0) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int worst = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && order.compare(heap[left], heap[worst]) > 0) {
+                    worst = left;
+                }
+                if (right < size && order.compare(heap[right], heap[worst]) > 0) {
+                    worst = right;
+                }
+                if (worst == i) {
+                    return;
+                }
+                swap(i, worst);
+                i = worst;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int tmp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = tmp;
+        }
+    }
+
+    // ==================================================
+    // STATE
+    // ==================================================
+
+    private static class State {
+
+        private final Map<Long, RoaringBitmap> seekersBySkill = new HashMap<>();
+
+        // Current skills per seeker, so an update can leave the old bitmaps
+        private final Map<Integer, long[]> skillsBySeeker = new HashMap<>();
+
+        // Columns indexed by seeker id
+        private int[] experience = new int[0];
+        private double[] expectedCTC = new double[0];
+        private byte[] noticeStatus = new byte[0];
+        private int[] noticePeriod = new int[0];
+        private byte[] immediateJoiner = new byte[0];
+        private int[] availableFrom = new int[0];
+        private int[] profileCompletion = new int[0];
+        private int seekers;
+
+        int size() {
+            return seekers;
+        }
+
+        int slots() {
+            return profileCompletion.length;
+        }
+
+        void putColumns(CandidateProfile profile) {
+            int id = Math.toIntExact(profile.getId());
+            ensureCapacity(id);
+
+            // Completion is always set for a known seeker
+            if (profileCompletion[id] == NO_VALUE) {
+                seekers++;
+            }
+            experience[id] = orNoValue(profile.getTotalExperience());
+            expectedCTC[id] = profile.getExpectedCTC() != null ? profile.getExpectedCTC() : Double.NaN;
+            noticeStatus[id] = profile.getNoticeStatus() != null ? (byte) profile.getNoticeStatus().ordinal() : NULL_CODE;
+            noticePeriod[id] = orNoValue(profile.getNoticePeriod());
+            immediateJoiner[id] = profile.getImmediateJoiner() != null
+                    ? (byte) (profile.getImmediateJoiner() ? 1 : 0)
+                    : NULL_CODE;
+            availableFrom[id] = profile.getAvailableFrom() != null
+                    ? (int) profile.getAvailableFrom().toEpochDay()
+                    : NO_VALUE;
+            profileCompletion[id] = profile.getProfileCompletion() != null ? profile.getProfileCompletion() : 0;
+        }
+
+        void putSkills(Long seekerId, List<Long> skillIds) {
+            if (seekerId == 0L) {
+                return;
+            }
+            int id = Math.toIntExact(seekerId);
+
+            long[] previous = skillsBySeeker.remove(id);
+            if (previous != null) {
+                for (long skillId : previous) {
+                    RoaringBitmap bitmap = seekersBySkill.get(skillId);
+                    bitmap.remove(id);
+                    if (bitmap.isEmpty()) {
+                        seekersBySkill.remove(skillId);
+                    }
+                }
+            }
+
+            if (skillIds.isEmpty()) {
+                return;
+            }
+            long[] current = skillIds.stream().mapToLong(Long::longValue).distinct().toArray();
+            for (long skillId : current) {
+                seekersBySkill.computeIfAbsent(skillId, k -> new RoaringBitmap()).add(id);
+            }
+            skillsBySeeker.put(id, current);
+        }
+
+        /*
+         * Every filter is evaluated with non-short-circuit operators, so the
+         * scan loop has no data-dependent branches per column.
+         */
+        boolean matches(int id, Bounds b) {
+            if (id >= profileCompletion.length) {
+                return false;
+            }
+            int exp = experience[id];
+            double ctc = expectedCTC[id];
+            int notice = noticePeriod[id];
+            int available = availableFrom[id];
+
+            // NaN compares false, so a missing CTC fails either bound
+            return (profileCompletion[id] != NO_VALUE)
+                    & (exp >= b.minExperience()) & (exp <= b.maxExperience())
+                    & (b.anyCTC() | ((ctc >= b.minCTC()) & (ctc <= b.maxCTC())))
+                    & ((b.noticeStatus() == ANY) | (noticeStatus[id] == b.noticeStatus()))
+                    & (notice >= b.minNoticePeriod()) & (notice <= b.maxNoticePeriod())
+                    & ((b.immediateJoiner() == ANY) | (immediateJoiner[id] == b.immediateJoiner()))
+                    & (available >= b.minAvailableFrom()) & (available <= b.maxAvailableFrom());
+        }
+
+        long rankKey(int id, int overlap) {
+            return CandidateIndex.rankKey(overlap, profileCompletion[id], experience[id], id);
+        }
+
+        SeekerOrder order(CandidateSort sort, boolean descending) {
+            SeekerOrder ascending = switch (sort) {
+                case TOTAL_EXPERIENCE -> (a, b) -> Integer.compare(experience[a], experience[b]);
+                case EXPECTED_CTC -> (a, b) -> Double.compare(ctcKey(a), ctcKey(b));
+                case NOTICE_PERIOD -> (a, b) -> Integer.compare(noticePeriod[a], noticePeriod[b]);
+                case AVAILABLE_FROM -> (a, b) -> Integer.compare(availableFrom[a], availableFrom[b]);
+                case PROFILE_COMPLETION -> (a, b) -> Integer.compare(profileCompletion[a], profileCompletion[b]);
+            };
+
+            return (a, b) -> {
+                int result = descending ? ascending.compare(b, a) : ascending.compare(a, b);
+                return result != 0 ? result : Integer.compare(a, b);
+            };
+        }
+
+        // Missing CTC orders lowest, like the other columns
+        private double ctcKey(int id) {
+            double ctc = expectedCTC[id];
+            return Double.isNaN(ctc) ? Double.NEGATIVE_INFINITY : ctc;
+        }
+
+        private void ensureCapacity(int id) {
+            if (id < profileCompletion.length) {
+                return;
+            }
+            int from = profileCompletion.length;
+            int capacity = Math.max(id + 1, from + (from >> 1) + 16);
+
+            experience = Arrays.copyOf(experience, capacity);
+            expectedCTC = Arrays.copyOf(expectedCTC, capacity);
+            noticeStatus = Arrays.copyOf(noticeStatus, capacity);
+            noticePeriod = Arrays.copyOf(noticePeriod, capacity);
+            immediateJoiner = Arrays.copyOf(immediateJoiner, capacity);
+            availableFrom = Arrays.copyOf(availableFrom, capacity);
+            profileCompletion = Arrays.copyOf(profileCompletion, capacity);
+
+            Arrays.fill(experience, from, capacity, NO_VALUE);
+            Arrays.fill(expectedCTC, from, capacity, Double.NaN);
+            Arrays.fill(noticeStatus, from, capacity, NULL_CODE);
+            Arrays.fill(noticePeriod, from, capacity, NO_VALUE);
+            Arrays.fill(immediateJoiner, from, capacity, NULL_CODE);
+            Arrays.fill(availableFrom, from, capacity, NO_VALUE);
+            Arrays.fill(profileCompletion, from, capacity, NO_VALUE);
+        }
+
+        private static int orNoValue(Integer value) {
+            return value != null ? value : NO_VALUE;
+        }
+    }
+}
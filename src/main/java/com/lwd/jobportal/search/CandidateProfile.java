@@ -0,0 +1,84 @@
+package com.lwd.jobportal.search;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.lwd.jobportal.entity.JobSeeker;
+import com.lwd.jobportal.entity.Skill;
+import com.lwd.jobportal.enums.NoticeStatus;
+
+import lombok.Getter;
+
+/**
+ * The fields of a job seeker that {@link CandidateIndex} filters and ranks on.
+ *
+ * Built either from a JPQL constructor expression (bulk load, skills loaded
+ * separately) or from a managed {@link JobSeeker} inside the writing transaction.
+ */
+@Getter
+public class CandidateProfile {
+
+    private final Long id;
+    private final Integer totalExperience;
+    private final Double expectedCTC;
+    private final NoticeStatus noticeStatus;
+    private final Integer noticePeriod;
+    private final Boolean immediateJoiner;
+    private final LocalDate availableFrom;
+    private final Integer profileCompletion;
+    private final List<Long> skillIds;
+
+    public CandidateProfile(
+            Long id,
+            Integer totalExperience,
+            Double expectedCTC,
+            NoticeStatus noticeStatus,
+            Integer noticePeriod,
+            Boolean immediateJoiner,
+            LocalDate availableFrom,
+            Integer profileCompletion
+    ) {
+        this(id, totalExperience, expectedCTC, noticeStatus, noticePeriod,
+                immediateJoiner, availableFrom, profileCompletion, List.of());
+    }
+
+    private CandidateProfile(
+            Long id,
+            Integer totalExperience,
+            Double expectedCTC,
+            NoticeStatus noticeStatus,
+            Integer noticePeriod,
+            Boolean immediateJoiner,
+            LocalDate availableFrom,
+            Integer profileCompletion,
+            List<Long> skillIds
+    ) {
+        this.id = id;
+        this.totalExperience = totalExperience;
+        this.expectedCTC = expectedCTC;
+        this.noticeStatus = noticeStatus;
+        this.noticePeriod = noticePeriod;
+        this.immediateJoiner = immediateJoiner;
+        this.availableFrom = availableFrom;
+        this.profileCompletion = profileCompletion;
+        this.skillIds = skillIds;
+    }
+
+    public static CandidateProfile from(JobSeeker seeker) {
+        List<Long> skillIds = seeker.getSkills() == null
+                ? List.of()
+                : seeker.getSkills().stream().map(Skill::getId).toList();
+
+        return new CandidateProfile(
+                seeker.getId(),
+                seeker.getTotalExperience(),
+                seeker.getExpectedCTC(),
+                seeker.getNoticeStatus(),
+                seeker.getNoticePeriod(),
+                seeker.getImmediateJoiner(),
+                seeker.getAvailableFrom(),
+                seeker.getProfileCompletion(),
+                skillIds
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package com.lwd.jobportal.search;
+
+import java.util.Arrays;
+
+/**
+ * Job seeker sort properties {@link CandidateIndex} can order a filter scan by.
+ */
+public enum CandidateSort {
+
+    TOTAL_EXPERIENCE("totalExperience"),
+    EXPECTED_CTC("expectedCTC"),
+    NOTICE_PERIOD("noticePeriod"),
+    AVAILABLE_FROM("availableFrom"),
+    PROFILE_COMPLETION("profileCompletion");
+
+    private final String property;
+
+    CandidateSort(String property) {
+        this.property = property;
+    }
+
+    /**
+     * The sort for a {@code JobSeeker} property name, or null when the index cannot order by it.
+     */
+    public static CandidateSort of(String property) {
+        return Arrays.stream(values())
+                .filter(sort -> sort.property.equals(property))
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,133 @@
+package com.lwd.jobportal.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds the live state of an in-memory index and swaps in full rebuilds.
+ *
+ * A rebuild loads a fresh state without blocking readers or writers. Writes
+ * applied meanwhile go to the live state and into a replay log, which is replayed
+ * onto the fresh state just before the swap, so no post-commit update is lost.
+ * Rebuilds run one at a time. After a failed load, on-demand rebuilds
+ * ({@link #ensureReady}) wait {@code retryBackoffMillis} before trying again,
+ * so a database outage does not turn every request into a full load.
+ *
+ * @param <S> index state; mutated only under {@code writeLock}
+ */
+@Slf4j
+final class IndexRebuilder<S> {
+
+    private final String name;
+    private final Lock writeLock;
+    private final long retryBackoffMillis;
+
+    // One rebuild at a time (startup, schedule, or a request arriving before warm-up)
+    private final Object rebuildMonitor = new Object();
+
+    private volatile S state;
+    private volatile boolean ready = false;
+    private volatile long retryAtMillis = 0L;
+
+    // Writes applied while a rebuild is loading, replayed onto the fresh state
+    private List<Consumer<S>> replayLog;
+
+    IndexRebuilder(String name, S initial, Lock writeLock, long retryBackoffMillis) {
+        this.name = name;
+        this.state = initial;
+        this.writeLock = writeLock;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    S state() {
+        return state;
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Applies a write to the live state, and to the fresh one if a rebuild is loading.
+     */
+    void apply(Consumer<S> op) {
+        writeLock.lock();
+        try {
+            op.accept(state);
+            if (replayLog != null) {
+                replayLog.add(op);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Loads and swaps in a fresh state; on failure the current state stays live.
+     *
+     * @return the new state, or null if the load failed
+     */
+    S rebuild(Supplier<S> loader) {
+        synchronized (rebuildMonitor) {
+            return load(loader);
+        }
+    }
+
+    /**
+     * Builds the index on first use, unless a load failed within the backoff period.
+     *
+     * @return the new state, or null if none was loaded here
+     */
+    S ensureReady(Supplier<S> loader) {
+        if (ready || System.currentTimeMillis() < retryAtMillis) {
+            return null;
+        }
+        synchronized (rebuildMonitor) {
+            if (!ready && System.currentTimeMillis() >= retryAtMillis) {
+                return load(loader);
+            }
+            return null;
+        }
+    }
+
+    private S load(Supplier<S> loader) {
+        setReplayLog(new ArrayList<>());
+
+        try {
+            S fresh = loader.get();
+
+            writeLock.lock();
+            try {
+                replayLog.forEach(op -> op.accept(fresh));
+                state = fresh;
+                ready = true;
+            } finally {
+                writeLock.unlock();
+            }
+            return fresh;
+
+        } catch (RuntimeException ex) {
+            // Keep serving the previous state (or the database) on failure
+            retryAtMillis = System.currentTimeMillis() + retryBackoffMillis;
+            log.warn("{} rebuild failed: {}", name, ex.getMessage());
+            return null;
+
+        } finally {
+            setReplayLog(null);
+        }
+    }
+
+    private void setReplayLog(List<Consumer<S>> entries) {
+        writeLock.lock();
+        try {
+            replayLog = entries;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.lwd.jobportal.search;
+
+import com.lwd.jobportal.entity.Job;
+import com.lwd.jobportal.enums.JobType;
+import com.lwd.jobportal.enums.NoticeStatus;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Flattened, immutable view of a public job as held by {@link JobSearchIndex}.
+ *
+ * Built either from a JPQL constructor expression (bulk load) or from a
+ * managed {@link Job} inside the writing transaction.
+ */
+@Getter
+public class JobDocument {
+
+    private final Long id;
+    private final String title;
+    private final String location;
+    private final String industry;
+    private final Long companyId;
+    private final String companyName;
+    private final JobType jobType;
+    private final Integer minExperience;
+    private final Integer maxExperience;
+    private final NoticeStatus noticePreference;
+    private final Integer maxNoticePeriod;
+    private final Boolean lwdPreferred;
+    private final LocalDateTime createdAt;
+
+    // ===== NORMALISED FIELDS (filters) =====
+    private final String locationKey;
+    private final String industryKey;
+    private final String companyNameKey;
+
+    public JobDocument(
+            Long id,
+            String title,
+            String location,
+            String industry,
+            Long companyId,
+            String companyName,
+            JobType jobType,
+            Integer minExperience,
+            Integer maxExperience,
+            NoticeStatus noticePreference,
+            Integer maxNoticePeriod,
+            Boolean lwdPreferred,
+            LocalDateTime createdAt
+    ) {
+        this.id = id;
+        this.title = title;
+        this.location = location;
+        this.industry = industry;
+        this.companyId = companyId;
+        this.companyName = companyName;
+        this.jobType = jobType;
+        this.minExperience = minExperience;
+        this.maxExperience = maxExperience;
+        this.noticePreference = noticePreference;
+        this.maxNoticePeriod = maxNoticePeriod;
+        this.lwdPreferred = lwdPreferred;
+        this.createdAt = createdAt;
+
+        this.locationKey = SearchTokenizer.normalize(location);
+        this.industryKey = SearchTokenizer.normalize(industry);
+        this.companyNameKey = SearchTokenizer.normalize(companyName);
+    }
+
+    public static JobDocument from(Job job) {
+        return new JobDocument(
+                job.getId(),
+                job.getTitle(),
+                job.getLocation(),
+                job.getIndustry(),
+                job.getCompany() != null ? job.getCompany().getId() : null,
+                job.getCompany() != null ? job.getCompany().getCompanyName() : null,
+                job.getJobType(),
+                job.getMinExperience(),
+                job.getMaxExperience(),
+                job.getNoticePreference(),
+                job.getMaxNoticePeriod(),
+                job.getLwdPreferred(),
+                job.getCreatedAt()
+        );
+    }
+
+    public JobDocument withCompanyName(String newCompanyName) {
+        return new JobDocument(
+                id, title, location, industry, companyId, newCompanyName,
+                jobType, minExperience, maxExperience,
+                noticePreference, maxNoticePeriod, lwdPreferred, createdAt
+        );
+    }
+
+    /**
+     * Every token a keyword may prefix-match, across the same five
+     * fields the LIKE-based specification searched.
+     */
+    public Set<String> terms() {
+        Set<String> terms = new LinkedHashSet<>();
+        terms.addAll(SearchTokenizer.tokenize(title));
+        terms.addAll(SearchTokenizer.tokenize(location));
+        terms.addAll(SearchTokenizer.tokenize(industry));
+        terms.addAll(SearchTokenizer.tokenize(companyName));
+        if (jobType != null) {
+            terms.addAll(SearchTokenizer.tokenize(jobType.name()));
+        }
+        return terms;
+    }
+}
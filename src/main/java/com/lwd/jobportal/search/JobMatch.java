@@ -0,0 +1,7 @@
+package com.lwd.jobportal.search;
+
+/**
+ * A recommended job and its match score (0-100).
+ */
+public record JobMatch(Long jobId, int score) {
+}
@@ -0,0 +1,471 @@
+package com.lwd.jobportal.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lwd.jobportal.repository.JobRepository;
+import com.lwd.jobportal.util.KeysetLoader;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Scores every public job against a job seeker profile for recommendations.
+ *
+ * Jobs are held as {@link JobMatchProfile}s, with their required skills as
+ * {@code job_skills} ids, and compiled into a columnar
+ * {@link Snapshot} (primitive arrays, skill ids in one flat array) that a
+ * ranking scans without touching the database. The snapshot is recompiled lazily
+ * after job changes, at most every {@code lwd.match.snapshot-max-lag-ms}; a job
+ * leaving the public set (closed, deleted) forces a recompile on the next request,
+ * so pages and their totals never count it.
+ *
+ * Each seeker's top {@code lwd.match.top-k} jobs are cached, in a bounded Caffeine
+ * cache of {@code lwd.match.ranking-cache.max-size} seekers, until their profile
+ * changes or a newer snapshot is compiled; deeper pages are ranked on demand.
+ */
+@Slf4j
+@Component
+public class JobMatchIndex {
+
+    private final JobRepository jobRepository;
+
+    private final int topK;
+    private final long snapshotMaxLagMillis;
+
+    // Writes and snapshot compilation; compiling reads the whole state
+    private final Lock writeLock = new ReentrantLock();
+    private final IndexRebuilder<State> index;
+
+    // Bumped after every write; a snapshot compiled at an older version is stale
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    // Oldest snapshot version still allowed to serve; raised by removals
+    private volatile long minSnapshotVersion = 0;
+
+    private final ConcurrentMap<Long, Ranking> rankings;
+    private final AtomicLong stamps = new AtomicLong();
+
+    public JobMatchIndex(
+            JobRepository jobRepository,
+            @Value("${lwd.match.top-k:500}") int topK,
+            @Value("${lwd.match.snapshot-max-lag-ms:5000}") long snapshotMaxLagMillis,
+            @Value("${lwd.match.ranking-cache.max-size:5000}") int maxRankings,
+            @Value("${lwd.match.retry-backoff-ms:30000}") long retryBackoffMillis
+    ) {
+        this.jobRepository = jobRepository;
+        this.topK = topK;
+        this.snapshotMaxLagMillis = snapshotMaxLagMillis;
+        this.index = new IndexRebuilder<>("Job match index", new State(), writeLock, retryBackoffMillis);
+        this.rankings = Caffeine.newBuilder()
+                .maximumSize(maxRankings)
+                .<Long, Ranking>build()
+                .asMap();
+    }
+
+    public boolean isReady() {
+        return index.isReady();
+    }
+
+    // ==================================================
+    // QUERY
+    // ==================================================
+
+    /**
+     * One page of the seeker's recommendations, best match first, newest first on ties.
+     *
+     * @param seekerId      cache key, the seeker's user id
+     * @param profileLoader loads the profile on a cache miss; may throw when there is none
+     */
+    public Page<JobMatch> recommend(Long seekerId, Pageable pageable, Supplier<SeekerMatchProfile> profileLoader) {
+
+        // Before warm-up; after a failed load this waits out the backoff instead
+        built(index.ensureReady(this::load));
+
+        Snapshot current = currentSnapshot();
+        Ranking ranking = rankings.get(seekerId);
+
+        if (ranking == null || ranking.isTombstone() || ranking.snapshot() != current) {
+            // Stamp taken before loading; a concurrent profile change makes it stale
+            long stamp = stamps.incrementAndGet();
+            ranking = current.rank(profileLoader.get(), topK, stamp);
+            storeRanking(seekerId, ranking);
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE);
+        int to = (int) Math.min((long) from + pageable.getPageSize(), Integer.MAX_VALUE);
+
+        // Past the cached top-K: rank deep enough for this page, without caching it
+        if (to > ranking.jobIds().length && ranking.matched() > ranking.jobIds().length) {
+            ranking = current.rank(profileLoader.get(), to, 0);
+        }
+
+        List<JobMatch> content = new ArrayList<>();
+        for (int i = from; i < Math.min(to, ranking.jobIds().length); i++) {
+            content.add(new JobMatch(ranking.jobIds()[i], ranking.scores()[i]));
+        }
+
+        return new PageImpl<>(content, pageable, ranking.matched());
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+
+        if (current != null
+                && current.version() >= minSnapshotVersion
+                && (current.version() == version.get()
+                || System.currentTimeMillis() - current.compiledAt() < snapshotMaxLagMillis)) {
+            return current;
+        }
+
+        // Under the write lock the state and its version stay consistent while compiling
+        writeLock.lock();
+        try {
+            if (snapshot == null || snapshot.version() != version.get()) {
+                snapshot = Snapshot.compile(index.state(), version.get());
+            }
+            return snapshot;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // ==================================================
+    // BUILD
+    // ==================================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${lwd.match.refresh-ms:600000}",
+            fixedDelayString = "${lwd.match.refresh-ms:600000}"
+    )
+    public void rebuild() {
+        built(index.rebuild(this::load));
+    }
+
+    private State load() {
+        State fresh = new State();
+
+        KeysetLoader.forEachBatch(jobRepository::findJobMatchProfiles, JobMatchProfile::getId,
+                batch -> loadBatch(fresh, batch));
+
+        return fresh;
+    }
+
+    // A swapped-in state invalidates the compiled snapshot
+    private void built(State fresh) {
+        if (fresh != null) {
+            version.incrementAndGet();
+            log.info("Job match index built with {} jobs", fresh.jobs.size());
+        }
+    }
+
+    // Profiles of one id range, with the skill ids of the same range
+    private void loadBatch(State target, List<JobMatchProfile> batch) {
+        Map<Long, List<Long>> skills = new HashMap<>();
+
+        List<Object[]> rows = jobRepository.findJobSkillIds(
+                batch.get(0).getId(), batch.get(batch.size() - 1).getId());
+        for (Object[] row : rows) {
+            skills.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Long) row[1]);
+        }
+
+        for (JobMatchProfile job : batch) {
+            target.putJob(job.withSkillIds(skills.getOrDefault(job.getId(), List.of())));
+        }
+    }
+
+    // ==================================================
+    // INCREMENTAL UPDATES (called after commit)
+    // ==================================================
+
+    public void putJob(JobMatchProfile job) {
+        apply(target -> target.putJob(job));
+    }
+
+    public void removeJob(Long jobId) {
+        apply(target -> target.jobs.remove(jobId));
+        minSnapshotVersion = version.get();
+    }
+
+    /**
+     * Drops the cached ranking; the next request re-reads the profile.
+     */
+    public void seekerChanged(Long seekerId) {
+        storeRanking(seekerId, Ranking.tombstone(stamps.incrementAndGet()));
+    }
+
+    private void apply(Consumer<State> op) {
+        index.apply(target -> {
+            op.accept(target);
+            version.incrementAndGet();
+        });
+    }
+
+    // ==================================================
+    // RANKING CACHE
+    // ==================================================
+
+    // A ranking never replaces a newer one (or a newer tombstone)
+    private void storeRanking(Long seekerId, Ranking ranking) {
+        rankings.merge(seekerId, ranking,
+                (existing, fresh) -> existing.stamp() < fresh.stamp() ? fresh : existing);
+    }
+
+    private record Ranking(long[] jobIds, int[] scores, int matched, Snapshot snapshot, long stamp) {
+
+        static Ranking tombstone(long stamp) {
+            return new Ranking(null, null, 0, null, stamp);
+        }
+
+        boolean isTombstone() {
+            return jobIds == null;
+        }
+    }
+
+    // ==================================================
+    // STATE
+    // ==================================================
+
+    private static class State {
+
+        private final Map<Long, JobMatchProfile> jobs = new HashMap<>();
+
+        void putJob(JobMatchProfile job) {
+            jobs.put(job.getId(), job);
+        }
+    }
+
+    // ==================================================
+    // SNAPSHOT
+    // ==================================================
+
+    /**
+     * Immutable column store of all jobs, rows ordered newest first.
+     */
+    private static final class Snapshot {
+
+        // ===== WEIGHTS (sum 100) =====
+        private static final int SKILLS = 30;
+        private static final int EXPERIENCE = 25;
+        private static final int LOCATION = 15;
+        private static final int INDUSTRY = 10;
+        private static final int NOTICE = 10;
+        private static final int SALARY = 5;
+        private static final int PROFILE_BOOST = 5;
+        private static final int MAX_SCORE = 100;
+
+        private static final int NONE = Integer.MIN_VALUE;
+
+        private static final Comparator<JobMatchProfile> NEWEST_FIRST =
+                Comparator.comparing(JobMatchProfile::getCreatedAt,
+                                Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+                        .thenComparing(JobMatchProfile::getId, Comparator.reverseOrder());
+
+        private final long version;
+        private final long compiledAt;
+
+        private final int size;
+        private final long[] ids;
+        private final int[] minExperience;
+        private final int[] maxExperience;
+        private final double[] minSalary;
+        private final double[] maxSalary;
+        private final int[] maxNoticePeriod;
+        private final String[] locationKey;
+        private final String[] industryKey;
+
+        // Skills of row i are skillIds[skillStart[i] .. skillStart[i + 1])
+        private final int[] skillStart;
+        private final int[] skillIds;
+        private final int[] requiredSkills;
+
+        private Snapshot(long version, List<JobMatchProfile> rows) {
+            this.version = version;
+            this.compiledAt = System.currentTimeMillis();
+
+            size = rows.size();
+            ids = new long[size];
+            minExperience = new int[size];
+            maxExperience = new int[size];
+            minSalary = new double[size];
+            maxSalary = new double[size];
+            maxNoticePeriod = new int[size];
+            locationKey = new String[size];
+            industryKey = new String[size];
+            skillStart = new int[size + 1];
+            requiredSkills = new int[size];
+
+            int[] skills = new int[Math.max(16, size * 4)];
+            int skillCount = 0;
+
+            for (int i = 0; i < size; i++) {
+                JobMatchProfile job = rows.get(i);
+
+                ids[i] = job.getId();
+                minExperience[i] = job.getMinExperience() != null ? job.getMinExperience() : NONE;
+                maxExperience[i] = job.getMaxExperience() != null ? job.getMaxExperience() : NONE;
+                minSalary[i] = job.getMinSalary() != null ? job.getMinSalary() : Double.NaN;
+                maxSalary[i] = job.getMaxSalary() != null ? job.getMaxSalary() : Double.NaN;
+                maxNoticePeriod[i] = job.getMaxNoticePeriod() != null ? job.getMaxNoticePeriod() : NONE;
+                locationKey[i] = job.getLocationKey();
+                industryKey[i] = job.getIndustryKey();
+
+                skillStart[i] = skillCount;
+                requiredSkills[i] = job.getSkillIds().size();
+
+                for (Long id : job.getSkillIds()) {
+                    if (id > Integer.MAX_VALUE) {
+                        continue;
+                    }
+                    if (skillCount == skills.length) {
+                        skills = Arrays.copyOf(skills, skills.length * 2);
+                    }
+                    skills[skillCount++] = id.intValue();
+                }
+            }
+            skillStart[size] = skillCount;
+            skillIds = Arrays.copyOf(skills, skillCount);
+        }
+
+        static Snapshot compile(State state, long version) {
+            List<JobMatchProfile> rows = new ArrayList<>(state.jobs.values());
+            rows.sort(NEWEST_FIRST);
+            return new Snapshot(version, rows);
+        }
+
+        long version() {
+            return version;
+        }
+
+        long compiledAt() {
+            return compiledAt;
+        }
+
+        /**
+         * Scores every row and keeps the best {@code limit}; {@code matched} counts all
+         * rows with a job-specific score above zero.
+         */
+        Ranking rank(SeekerMatchProfile seeker, int limit, long stamp) {
+
+            BitSet seekerSkills = new BitSet();
+            for (Long skillId : seeker.skillIds()) {
+                if (skillId != null && skillId <= Integer.MAX_VALUE) {
+                    seekerSkills.set(skillId.intValue());
+                }
+            }
+
+            int boost = seeker.profileCompletion() != null && seeker.profileCompletion() >= 75
+                    ? PROFILE_BOOST
+                    : 0;
+
+            // (MAX_SCORE - score) in the high word, row in the low word:
+            // ascending order is best score first, then newest row first
+            long[] keys = new long[size];
+            int matched = 0;
+
+            for (int row = 0; row < size; row++) {
+                int score = score(row, seeker, seekerSkills);
+                if (score > 0) {
+                    keys[matched++] = ((long) (MAX_SCORE - score - boost) << 32) | row;
+                }
+            }
+            Arrays.sort(keys, 0, matched);
+
+            int count = Math.min(limit, matched);
+            long[] jobIds = new long[count];
+            int[] scores = new int[count];
+
+            for (int i = 0; i < count; i++) {
+                int row = (int) keys[i];
+                jobIds[i] = ids[row];
+                scores[i] = MAX_SCORE - (int) (keys[i] >>> 32);
+            }
+
+            return new Ranking(jobIds, scores, matched, this, stamp);
+        }
+
+        // Job-specific part of the score, without the profile boost
+        private int score(int row, SeekerMatchProfile seeker, BitSet seekerSkills) {
+            int score = 0;
+
+            // ===== SKILLS: share of the job's required skills the seeker has =====
+            if (requiredSkills[row] > 0 && !seekerSkills.isEmpty()) {
+                int hits = 0;
+                for (int k = skillStart[row]; k < skillStart[row + 1]; k++) {
+                    if (seekerSkills.get(skillIds[k])) {
+                        hits++;
+                    }
+                }
+                score += SKILLS * hits / requiredSkills[row];
+            }
+
+            // ===== EXPERIENCE: inside the job's range (open-ended bounds allowed) =====
+            Integer experience = seeker.totalExperience();
+            if (experience != null
+                    && (minExperience[row] != NONE || maxExperience[row] != NONE)
+                    && (minExperience[row] == NONE || experience >= minExperience[row])
+                    && (maxExperience[row] == NONE || experience <= maxExperience[row])) {
+                score += EXPERIENCE;
+            }
+
+            // ===== LOCATION =====
+            if (seeker.preferredLocationKey() != null
+                    && locationKey[row] != null
+                    && locationKey[row].contains(seeker.preferredLocationKey())) {
+                score += LOCATION;
+            }
+
+            // ===== INDUSTRY =====
+            if (seeker.currentCompanyKey() != null
+                    && industryKey[row] != null
+                    && industryKey[row].contains(seeker.currentCompanyKey())) {
+                score += INDUSTRY;
+            }
+
+            // ===== NOTICE =====
+            if (seeker.noticePeriod() != null
+                    && maxNoticePeriod[row] != NONE
+                    && seeker.noticePeriod() <= maxNoticePeriod[row]) {
+                score += NOTICE;
+            }
+
+            // ===== SALARY: expected CTC inside the job's range =====
+            Double expected = seeker.expectedCTC();
+            if (expected != null
+                    && (!Double.isNaN(minSalary[row]) || !Double.isNaN(maxSalary[row]))
+                    && (Double.isNaN(minSalary[row]) || expected >= minSalary[row])
+                    && (Double.isNaN(maxSalary[row]) || expected <= maxSalary[row])) {
+                score += SALARY;
+            }
+
+            return score;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.lwd.jobportal.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.lwd.jobportal.entity.Job;
+import com.lwd.jobportal.entity.Skill;
+
+import lombok.Getter;
+
+/**
+ * The fields of a public job that {@link JobMatchIndex} scores against.
+ *
+ * Built either from a JPQL constructor expression (bulk load, skill ids from
+ * {@code job_skills} attached with {@link #withSkillIds}) or from a managed
+ * {@link Job} inside the writing transaction.
+ */
+@Getter
+public class JobMatchProfile {
+
+    private final Long id;
+    private final LocalDateTime createdAt;
+    private final Integer minExperience;
+    private final Integer maxExperience;
+    private final Double minSalary;
+    private final Double maxSalary;
+    private final Integer maxNoticePeriod;
+
+    // ===== NORMALISED FIELDS =====
+    private final String locationKey;
+    private final String industryKey;
+    private final List<Long> skillIds;
+
+    public JobMatchProfile(
+            Long id,
+            LocalDateTime createdAt,
+            Integer minExperience,
+            Integer maxExperience,
+            Double minSalary,
+            Double maxSalary,
+            Integer maxNoticePeriod,
+            String location,
+            String industry
+    ) {
+        this.id = id;
+        this.createdAt = createdAt;
+        this.minExperience = minExperience;
+        this.maxExperience = maxExperience;
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+        this.maxNoticePeriod = maxNoticePeriod;
+
+        this.locationKey = SearchTokenizer.normalize(location);
+        this.industryKey = SearchTokenizer.normalize(industry);
+        this.skillIds = List.of();
+    }
+
+    private JobMatchProfile(JobMatchProfile source, List<Long> skillIds) {
+        this.id = source.id;
+        this.createdAt = source.createdAt;
+        this.minExperience = source.minExperience;
+        this.maxExperience = source.maxExperience;
+        this.minSalary = source.minSalary;
+        this.maxSalary = source.maxSalary;
+        this.maxNoticePeriod = source.maxNoticePeriod;
+        this.locationKey = source.locationKey;
+        this.industryKey = source.industryKey;
+        this.skillIds = List.copyOf(skillIds);
+    }
+
+    /**
+     * This profile with the given required skill ids.
+     */
+    public JobMatchProfile withSkillIds(List<Long> skillIds) {
+        return new JobMatchProfile(this, skillIds);
+    }
+
+    public static JobMatchProfile from(Job job) {
+        JobMatchProfile profile = new JobMatchProfile(
+                job.getId(),
+                job.getCreatedAt(),
+                job.getMinExperience(),
+                job.getMaxExperience(),
+                job.getMinSalary(),
+                job.getMaxSalary(),
+                job.getMaxNoticePeriod(),
+                job.getLocation(),
+                job.getIndustry()
+        );
+        // Ids only: skill references stay uninitialised
+        return profile.withSkillIds(job.getRequiredSkills().stream().map(Skill::getId).toList());
+    }
+}
@@ -0,0 +1,25 @@
+package com.lwd.jobportal.search;
+
+import com.lwd.jobportal.enums.JobType;
+import com.lwd.jobportal.enums.NoticeStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class JobSearchCriteria {
+
+    private String keyword;
+    private String location;
+    private String industry;
+    private String companyName;
+    private Integer minExp;
+    private Integer maxExp;
+    private JobType jobType;
+
+    // ===== LWD FILTERS =====
+    private NoticeStatus noticePreference;
+    private Integer maxNoticePeriod;
+    private Boolean lwdPreferred;
+}
@@ -0,0 +1,295 @@
+package com.lwd.jobportal.search;
+
+import com.lwd.jobportal.repository.JobRepository;
+import com.lwd.jobportal.util.KeysetCursor;
+import com.lwd.jobportal.util.KeysetLoader;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * In-process inverted index over public (OPEN, not deleted) jobs.
+ *
+ * Terms are the tokens of title, location, industry, company name and job type;
+ * every keyword token must prefix-match at least one term of a job.
+ * Facet filters are evaluated against the flattened {@link JobDocument}.
+ * Only ids are returned – callers hydrate the requested page from MySQL.
+ *
+ * Updates arrive through {@link SearchIndexSync} once the writing transaction
+ * has committed. Writers are serialised on one lock; readers are lock free.
+ * A periodic full rebuild repairs drift from writes made on other nodes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobSearchIndex {
+
+    private static final Comparator<JobDocument> NEWEST_FIRST =
+            Comparator.comparing(JobDocument::getCreatedAt,
+                            Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+                    .thenComparing(JobDocument::getId, Comparator.reverseOrder());
+
+    private final JobRepository jobRepository;
+
+    private final IndexRebuilder<Segment> index =
+            new IndexRebuilder<>("Job search index", new Segment(), new ReentrantLock(), 0L);
+
+    public boolean isReady() {
+        return index.isReady();
+    }
+
+    public int size() {
+        return index.state().documents.size();
+    }
+
+    // ==================================================
+    // BUILD
+    // ==================================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${lwd.search.job-index.refresh-ms:600000}",
+            fixedDelayString = "${lwd.search.job-index.refresh-ms:600000}"
+    )
+    public void rebuild() {
+        Segment built = index.rebuild(() -> {
+            Segment fresh = new Segment();
+            KeysetLoader.forEach(jobRepository::findPublicJobDocuments, JobDocument::getId, fresh::add);
+            return fresh;
+        });
+
+        if (built != null) {
+            log.info("Job search index built with {} jobs", built.documents.size());
+        }
+    }
+
+    // ==================================================
+    // INCREMENTAL UPDATES (called after commit)
+    // ==================================================
+
+    public void put(JobDocument document) {
+        apply(target -> {
+            target.remove(document.getId());
+            target.add(document);
+        });
+    }
+
+    public void remove(Long jobId) {
+        apply(target -> target.remove(jobId));
+    }
+
+    public void renameCompany(Long companyId, String companyName) {
+        apply(target -> {
+            List<JobDocument> affected = target.documents.values().stream()
+                    .filter(doc -> companyId.equals(doc.getCompanyId()))
+                    .filter(doc -> !companyName.equals(doc.getCompanyName()))
+                    .toList();
+
+            for (JobDocument doc : affected) {
+                target.remove(doc.getId());
+                target.add(doc.withCompanyName(companyName));
+            }
+        });
+    }
+
+    private void apply(Consumer<Segment> op) {
+        index.apply(op);
+    }
+
+    // ==================================================
+    // QUERY
+    // ==================================================
+
+    /**
+     * Returns the page of matching job ids, newest first.
+     */
+    public Page<Long> search(JobSearchCriteria criteria, Pageable pageable) {
+        Segment current = index.state();
+
+        Collection<JobDocument> candidates = current.candidates(criteria.getKeyword());
+
+        List<JobDocument> matches = new ArrayList<>();
+        for (JobDocument doc : candidates) {
+            if (matchesFilters(doc, criteria)) {
+                matches.add(doc);
+            }
+        }
+        matches.sort(NEWEST_FIRST);
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+
+        List<Long> ids = matches.subList(from, to).stream()
+                .map(JobDocument::getId)
+                .toList();
+
+        return new PageImpl<>(ids, pageable, matches.size());
+    }
+
+    /**
+     * Returns up to {@code limit} matching job ids strictly after {@code after}
+     * (null for the first slice), newest first.
+     */
+    public List<Long> searchAfter(JobSearchCriteria criteria, KeysetCursor after, int limit) {
+        Segment current = index.state();
+
+        List<JobDocument> matches = new ArrayList<>();
+        for (JobDocument doc : current.candidates(criteria.getKeyword())) {
+            if (isAfter(doc, after) && matchesFilters(doc, criteria)) {
+                matches.add(doc);
+            }
+        }
+        matches.sort(NEWEST_FIRST);
+
+        return matches.subList(0, Math.min(limit, matches.size())).stream()
+                .map(JobDocument::getId)
+                .toList();
+    }
+
+    // Same (createdAt DESC, id DESC) order as JobSpecification.createdBefore
+    private boolean isAfter(JobDocument doc, KeysetCursor cursor) {
+        if (cursor == null) {
+            return true;
+        }
+        if (doc.getCreatedAt() == null) {
+            return false;
+        }
+
+        int cmp = doc.getCreatedAt().compareTo(cursor.createdAt());
+        return cmp < 0 || (cmp == 0 && doc.getId() < cursor.id());
+    }
+
+    private boolean matchesFilters(JobDocument doc, JobSearchCriteria c) {
+
+        if (!containsKey(doc.getLocationKey(), c.getLocation())) return false;
+        if (!containsKey(doc.getIndustryKey(), c.getIndustry())) return false;
+        if (!containsKey(doc.getCompanyNameKey(), c.getCompanyName())) return false;
+
+        if (c.getMinExp() != null
+                && (doc.getMinExperience() == null || doc.getMinExperience() < c.getMinExp())) {
+            return false;
+        }
+
+        if (c.getMaxExp() != null
+                && (doc.getMaxExperience() == null || doc.getMaxExperience() > c.getMaxExp())) {
+            return false;
+        }
+
+        if (c.getJobType() != null && c.getJobType() != doc.getJobType()) return false;
+
+        // ===== LWD FILTERS =====
+
+        if (c.getNoticePreference() != null && c.getNoticePreference() != doc.getNoticePreference()) {
+            return false;
+        }
+
+        if (c.getMaxNoticePeriod() != null
+                && doc.getMaxNoticePeriod() != null
+                && doc.getMaxNoticePeriod() < c.getMaxNoticePeriod()) {
+            return false;
+        }
+
+        return c.getLwdPreferred() == null || c.getLwdPreferred().equals(doc.getLwdPreferred());
+    }
+
+    private boolean containsKey(String value, String filter) {
+        String normalized = SearchTokenizer.normalize(filter);
+        if (normalized == null) {
+            return true;
+        }
+        return value != null && value.contains(normalized);
+    }
+
+    // ==================================================
+    // SEGMENT
+    // ==================================================
+
+    private static class Segment {
+
+        private final NavigableMap<String, Set<Long>> postings = new ConcurrentSkipListMap<>();
+        private final Map<Long, JobDocument> documents = new ConcurrentHashMap<>();
+
+        void add(JobDocument doc) {
+            documents.put(doc.getId(), doc);
+            for (String term : doc.terms()) {
+                postings.computeIfAbsent(term, t -> ConcurrentHashMap.newKeySet()).add(doc.getId());
+            }
+        }
+
+        void remove(Long jobId) {
+            JobDocument doc = documents.remove(jobId);
+            if (doc == null) {
+                return;
+            }
+            for (String term : doc.terms()) {
+                postings.computeIfPresent(term, (t, ids) -> {
+                    ids.remove(jobId);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+
+        Collection<JobDocument> candidates(String keyword) {
+            Set<String> tokens = SearchTokenizer.tokenize(keyword);
+            if (tokens.isEmpty()) {
+                return documents.values();
+            }
+
+            Set<Long> result = null;
+            for (String token : tokens) {
+                Set<Long> matching = prefixMatches(token);
+                if (result == null) {
+                    result = matching;
+                } else {
+                    result.retainAll(matching);
+                }
+                if (result.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<JobDocument> docs = new ArrayList<>(result.size());
+            for (Long id : result) {
+                JobDocument doc = documents.get(id);
+                if (doc != null) {
+                    docs.add(doc);
+                }
+            }
+            return docs;
+        }
+
+        private Set<Long> prefixMatches(String prefix) {
+            Set<Long> ids = new HashSet<>();
+            for (Set<Long> posting : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+                ids.addAll(posting);
+            }
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.lwd.jobportal.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lwd.jobportal.dto.search.CompanySearchDTO;
+import com.lwd.jobportal.dto.search.JobSearchDTO;
+import com.lwd.jobportal.dto.search.SkillDTO;
+import com.lwd.jobportal.dto.search.UserSearchDTO;
+import com.lwd.jobportal.entity.Company;
+import com.lwd.jobportal.entity.Job;
+import com.lwd.jobportal.entity.Skill;
+import com.lwd.jobportal.entity.User;
+import com.lwd.jobportal.repository.CompanyRepository;
+import com.lwd.jobportal.repository.JobRepository;
+import com.lwd.jobportal.repository.SkillRepository;
+import com.lwd.jobportal.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * LIKE-based search straight against MySQL.
+ *
+ * Always available: it is the default backend and the fallback
+ * while the local index is being built. Queries run under a JDBC timeout of
+ * {@code lwd.search.jpa.query-timeout-s}, so a category the fan-out has given up
+ * on does not keep its connection busy.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true, timeoutString = "${lwd.search.jpa.query-timeout-s:1}")
+public class JpaSearchBackend implements SearchBackend {
+
+    private final JobRepository jobRepository;
+    private final CompanyRepository companyRepository;
+    private final UserRepository userRepository;
+    private final SkillRepository skillRepository;
+
+    @Override
+    public Page<JobSearchDTO> searchJobs(String keyword, Pageable pageable, boolean countTotal) {
+        if (isBlank(keyword)) {
+            return jobRepository.findAll(pageable).map(this::mapJob);
+        }
+
+        Slice<Job> page = countTotal
+                ? jobRepository.searchJobs(keyword, pageable)
+                : jobRepository.searchJobsSlice(keyword, pageable);
+
+        return toPage(page).map(this::mapJob);
+    }
+
+    @Override
+    public Page<CompanySearchDTO> searchCompanies(String keyword, Pageable pageable, boolean countTotal) {
+        if (isBlank(keyword)) {
+            return companyRepository.findAll(pageable).map(this::mapCompany);
+        }
+
+        Slice<Company> page = countTotal
+                ? companyRepository.searchCompanies(keyword, pageable)
+                : companyRepository.searchCompaniesSlice(keyword, pageable);
+
+        return toPage(page).map(this::mapCompany);
+    }
+
+    @Override
+    public Page<UserSearchDTO> searchCandidates(String keyword, Pageable pageable, boolean countTotal) {
+        if (isBlank(keyword)) {
+            return userRepository.findJobSeekers(pageable).map(this::mapUser);
+        }
+
+        Slice<User> page = countTotal
+                ? userRepository.searchJobSeekers(keyword, pageable)
+                : userRepository.searchJobSeekersSlice(keyword, pageable);
+
+        return toPage(page).map(this::mapUser);
+    }
+
+    @Override
+    public Page<UserSearchDTO> searchRecruiters(String keyword, Pageable pageable, boolean countTotal) {
+        if (isBlank(keyword)) {
+            return userRepository.findRecruiters(pageable).map(this::mapUser);
+        }
+
+        Slice<User> page = countTotal
+                ? userRepository.searchRecruiters(keyword, pageable)
+                : userRepository.searchRecruitersSlice(keyword, pageable);
+
+        return toPage(page).map(this::mapUser);
+    }
+
+    @Override
+    public Page<SkillDTO> searchSkills(String keyword, Pageable pageable, boolean countTotal) {
+        if (isBlank(keyword)) {
+            return skillRepository.findAll(pageable).map(this::mapSkill);
+        }
+
+        Slice<Skill> page = countTotal
+                ? skillRepository.searchSkills(keyword, pageable)
+                : skillRepository.searchSkillsSlice(keyword, pageable);
+
+        return toPage(page).map(this::mapSkill);
+    }
+
+    private boolean isBlank(String keyword) {
+        return keyword == null || keyword.trim().isEmpty();
+    }
+
+    // Slice totals are a lower bound: one past the page when more rows exist
+    private <T> Page<T> toPage(Slice<T> slice) {
+        if (slice instanceof Page<T> page) {
+            return page;
+        }
+
+        long seen = slice.getPageable().getOffset() + slice.getNumberOfElements();
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), slice.hasNext() ? seen + 1 : seen);
+    }
+
+    // ================= MAPPERS =================
+
+    private JobSearchDTO mapJob(Job job) {
+        return JobSearchDTO.builder()
+                .id(job.getId())
+                .title(job.getTitle())
+                .location(job.getLocation())
+                .industry(job.getIndustry())
+                .companyName(job.getCompany().getCompanyName())
+                .jobType(job.getJobType().name())
+                .build();
+    }
+
+    private CompanySearchDTO mapCompany(Company company) {
+        return CompanySearchDTO.builder()
+                .id(company.getId())
+                .companyName(company.getCompanyName())
+                .location(company.getLocation())
+                .industry(company.getIndustry())
+                .build();
+    }
+
+    private UserSearchDTO mapUser(User user) {
+        return UserSearchDTO.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .phone(user.getPhone())
+                .companyName(
+                        user.getCompany() != null
+                                ? user.getCompany().getCompanyName()
+                                : null
+                )
+                .build();
+    }
+
+    private SkillDTO mapSkill(Skill skill) {
+        return new SkillDTO(skill.getId(), skill.getName());
+    }
+}
@@ -0,0 +1,157 @@
+package com.lwd.jobportal.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import com.lwd.jobportal.dto.search.CompanySearchDTO;
+import com.lwd.jobportal.dto.search.JobSearchDTO;
+import com.lwd.jobportal.dto.search.SkillDTO;
+import com.lwd.jobportal.dto.search.UserSearchDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Relevance-ranked search over the embedded {@link LuceneSearchIndex}.
+ *
+ * Each keyword token must match the label or the secondary text of a document,
+ * exactly or as a prefix; exact label hits rank highest.
+ * Delegates to {@link JpaSearchBackend} until the first index build has committed.
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "lwd.search.backend", havingValue = "local")
+public class LocalIndexSearchBackend implements SearchBackend {
+
+    private static final Sort BROWSE_ORDER = new Sort(new SortField(SearchDocuments.ID, SortField.Type.LONG));
+
+    private static final Sort RELEVANCE_ORDER = new Sort(
+            SortField.FIELD_SCORE,
+            new SortField(SearchDocuments.ID, SortField.Type.LONG, true)
+    );
+
+    private final LuceneSearchIndex index;
+    private final JpaSearchBackend fallback;
+
+    @Override
+    public Page<JobSearchDTO> searchJobs(String keyword, Pageable pageable, boolean countTotal) {
+        if (!index.isReady()) {
+            return fallback.searchJobs(keyword, pageable, countTotal);
+        }
+        return search(SearchDocuments.JOB, keyword, pageable, countTotal, SearchDocuments::toJob);
+    }
+
+    @Override
+    public Page<CompanySearchDTO> searchCompanies(String keyword, Pageable pageable, boolean countTotal) {
+        if (!index.isReady()) {
+            return fallback.searchCompanies(keyword, pageable, countTotal);
+        }
+        return search(SearchDocuments.COMPANY, keyword, pageable, countTotal, SearchDocuments::toCompany);
+    }
+
+    @Override
+    public Page<UserSearchDTO> searchCandidates(String keyword, Pageable pageable, boolean countTotal) {
+        if (!index.isReady()) {
+            return fallback.searchCandidates(keyword, pageable, countTotal);
+        }
+        return search(SearchDocuments.CANDIDATE, keyword, pageable, countTotal, SearchDocuments::toUser);
+    }
+
+    @Override
+    public Page<UserSearchDTO> searchRecruiters(String keyword, Pageable pageable, boolean countTotal) {
+        if (!index.isReady()) {
+            return fallback.searchRecruiters(keyword, pageable, countTotal);
+        }
+        return search(SearchDocuments.RECRUITER, keyword, pageable, countTotal, SearchDocuments::toUser);
+    }
+
+    @Override
+    public Page<SkillDTO> searchSkills(String keyword, Pageable pageable, boolean countTotal) {
+        if (!index.isReady()) {
+            return fallback.searchSkills(keyword, pageable, countTotal);
+        }
+        return search(SearchDocuments.SKILL, keyword, pageable, countTotal, SearchDocuments::toSkill);
+    }
+
+    // ==================================================
+    // QUERY BUILDING
+    // ==================================================
+
+    private <T> Page<T> search(
+            String type,
+            String keyword,
+            Pageable pageable,
+            boolean countTotal,
+            Function<Document, T> mapper
+    ) {
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(SearchDocuments.TYPE, type)), BooleanClause.Occur.FILTER);
+
+        // Browse mode
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return index.search(query.build(), BROWSE_ORDER, pageable, true).map(mapper);
+        }
+
+        List<String> tokens = analyze(keyword);
+        if (tokens.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        for (String token : tokens) {
+            query.add(tokenQuery(token), BooleanClause.Occur.MUST);
+        }
+
+        return index.search(query.build(), RELEVANCE_ORDER, pageable, countTotal).map(mapper);
+    }
+
+    private Query tokenQuery(String token) {
+        return new BooleanQuery.Builder()
+                .add(boost(new TermQuery(new Term(SearchDocuments.NAME, token)), 4f), BooleanClause.Occur.SHOULD)
+                .add(boost(new PrefixQuery(new Term(SearchDocuments.NAME, token)), 2f), BooleanClause.Occur.SHOULD)
+                .add(new TermQuery(new Term(SearchDocuments.TEXT, token)), BooleanClause.Occur.SHOULD)
+                .add(boost(new PrefixQuery(new Term(SearchDocuments.TEXT, token)), 0.5f), BooleanClause.Occur.SHOULD)
+                .build();
+    }
+
+    private Query boost(Query query, float boost) {
+        return new BoostQuery(query, boost);
+    }
+
+    private List<String> analyze(String keyword) {
+        List<String> tokens = new ArrayList<>();
+
+        try (TokenStream stream = index.getAnalyzer().tokenStream(SearchDocuments.TEXT, keyword)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,186 @@
+package com.lwd.jobportal.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Embedded Lucene index on local disk.
+ *
+ * Owns the single {@link IndexWriter} and a {@link SearcherManager};
+ * searches always run against the last committed snapshot, so a rebuild
+ * in progress is invisible until it commits.
+ */
+@Component
+@ConditionalOnProperty(name = "lwd.search.backend", havingValue = "local")
+public class LuceneSearchIndex {
+
+    @FunctionalInterface
+    public interface DocumentLoader {
+        void load(Consumer<Document> sink) throws IOException;
+    }
+
+    private final Path indexDir;
+    private final Analyzer analyzer = new StandardAnalyzer();
+
+    private Directory directory;
+    private IndexWriter writer;
+    private volatile SearcherManager searcherManager;
+
+    private volatile boolean ready;
+
+    public LuceneSearchIndex(@Value("${lwd.search.local.index-dir:data/search-index}") String indexDir) {
+        this.indexDir = Path.of(indexDir);
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        directory = FSDirectory.open(indexDir);
+
+        // An index left by a previous run can serve immediately
+        ready = DirectoryReader.indexExists(directory);
+
+        writer = newWriter();
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Analyzer getAnalyzer() {
+        return analyzer;
+    }
+
+    // ==================================================
+    // WRITE
+    // ==================================================
+
+    /**
+     * Replaces the whole index with the loader's documents in one commit.
+     * On failure the previous commit stays in place.
+     */
+    public synchronized int rebuild(DocumentLoader loader) throws IOException {
+        int[] count = {0};
+
+        try {
+            writer.deleteAll();
+            loader.load(doc -> {
+                try {
+                    writer.addDocument(doc);
+                    count[0]++;
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            writer.commit();
+
+        } catch (IOException | RuntimeException ex) {
+            // rollback() closes the writer: reopen on the last commit. The new manager
+            // is swapped in before the old one closes; searchers already acquired from
+            // the old one stay usable until released
+            writer.rollback();
+            writer = newWriter();
+            SearcherManager previous = searcherManager;
+            searcherManager = new SearcherManager(writer, null);
+            previous.close();
+            throw ex;
+        }
+
+        searcherManager.maybeRefreshBlocking();
+        ready = true;
+        return count[0];
+    }
+
+    private IndexWriter newWriter() throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig(analyzer);
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        return new IndexWriter(directory, config);
+    }
+
+    // ==================================================
+    // READ
+    // ==================================================
+
+    /**
+     * Lucene counts hits exactly up to a threshold; beyond it an exact total
+     * needs a second pass, which is skipped when {@code exactTotal} is false.
+     */
+    public Page<Document> search(Query query, Sort sort, Pageable pageable, boolean exactTotal) {
+        try {
+            SearcherManager manager = searcherManager;
+            IndexSearcher searcher;
+            while (true) {
+                try {
+                    searcher = manager.acquire();
+                    break;
+                } catch (AlreadyClosedException ex) {
+                    // Closed by a failed rebuild after being swapped out: use its replacement
+                    if (manager == searcherManager) {
+                        throw ex;
+                    }
+                    manager = searcherManager;
+                }
+            }
+            try {
+                int from = (int) pageable.getOffset();
+                int limit = from + pageable.getPageSize();
+
+                TopDocs top = searcher.search(query, limit, sort);
+
+                long total = top.totalHits.relation == TotalHits.Relation.EQUAL_TO || !exactTotal
+                        ? top.totalHits.value
+                        : searcher.count(query);
+
+                List<Document> docs = new ArrayList<>();
+                ScoreDoc[] hits = top.scoreDocs;
+                for (int i = from; i < hits.length; i++) {
+                    docs.add(searcher.storedFields().document(hits[i].doc));
+                }
+
+                return new PageImpl<>(docs, pageable, total);
+
+            } finally {
+                manager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.lwd.jobportal.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.lwd.jobportal.dto.search.CompanySearchDTO;
+import com.lwd.jobportal.dto.search.JobSearchDTO;
+import com.lwd.jobportal.dto.search.SkillDTO;
+import com.lwd.jobportal.dto.search.UserSearchDTO;
+
+/**
+ * Engine behind /api/search.
+ *
+ * A blank keyword means browse mode (everything in the category).
+ * With {@code countTotal = false} the count query is skipped and the page total
+ * is only a lower bound (one past the page when more results exist);
+ * browse mode always counts.
+ * Selected with {@code lwd.search.backend}: {@code jpa} (default) or {@code local}.
+ */
+public interface SearchBackend {
+
+    Page<JobSearchDTO> searchJobs(String keyword, Pageable pageable, boolean countTotal);
+
+    Page<CompanySearchDTO> searchCompanies(String keyword, Pageable pageable, boolean countTotal);
+
+    Page<UserSearchDTO> searchCandidates(String keyword, Pageable pageable, boolean countTotal);
+
+    Page<UserSearchDTO> searchRecruiters(String keyword, Pageable pageable, boolean countTotal);
+
+    Page<SkillDTO> searchSkills(String keyword, Pageable pageable, boolean countTotal);
+}
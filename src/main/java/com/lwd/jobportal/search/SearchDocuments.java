@@ -0,0 +1,155 @@
+package com.lwd.jobportal.search;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+
+import com.lwd.jobportal.dto.search.CompanySearchDTO;
+import com.lwd.jobportal.dto.search.JobSearchDTO;
+import com.lwd.jobportal.dto.search.SkillDTO;
+import com.lwd.jobportal.dto.search.UserSearchDTO;
+
+/**
+ * Lucene document layout shared by the indexer and the local search backend.
+ *
+ * Every entity type lives in one index, separated by {@link #TYPE}.
+ * {@link #NAME} holds the (stored) primary label and is boosted over {@link #TEXT};
+ * display fields are stored so results need no database round-trip.
+ */
+public final class SearchDocuments {
+
+    // ===== TYPES =====
+    public static final String JOB = "JOB";
+    public static final String COMPANY = "COMPANY";
+    public static final String CANDIDATE = "CANDIDATE";
+    public static final String RECRUITER = "RECRUITER";
+    public static final String SKILL = "SKILL";
+
+    // ===== INDEXED FIELDS =====
+    public static final String TYPE = "type";
+    public static final String ID = "id";
+    public static final String NAME = "name";
+    public static final String TEXT = "text";
+
+    // ===== STORED FIELDS =====
+    private static final String LOCATION = "location";
+    private static final String INDUSTRY = "industry";
+    private static final String COMPANY_NAME = "companyName";
+    private static final String JOB_TYPE = "jobType";
+    private static final String EMAIL = "email";
+    private static final String PHONE = "phone";
+
+    private SearchDocuments() {
+    }
+
+    // ================= JOB =================
+
+    public static Document job(JobSearchDTO job) {
+        Document doc = base(JOB, job.getId(), job.getTitle());
+        text(doc, job.getLocation(), job.getIndustry(), job.getCompanyName());
+
+        store(doc, LOCATION, job.getLocation());
+        store(doc, INDUSTRY, job.getIndustry());
+        store(doc, COMPANY_NAME, job.getCompanyName());
+        store(doc, JOB_TYPE, job.getJobType());
+        return doc;
+    }
+
+    public static JobSearchDTO toJob(Document doc) {
+        return JobSearchDTO.builder()
+                .id(id(doc))
+                .title(doc.get(NAME))
+                .location(doc.get(LOCATION))
+                .industry(doc.get(INDUSTRY))
+                .companyName(doc.get(COMPANY_NAME))
+                .jobType(doc.get(JOB_TYPE))
+                .build();
+    }
+
+    // ================= COMPANY =================
+
+    public static Document company(CompanySearchDTO company) {
+        Document doc = base(COMPANY, company.getId(), company.getCompanyName());
+        text(doc, company.getLocation(), company.getIndustry());
+
+        store(doc, LOCATION, company.getLocation());
+        store(doc, INDUSTRY, company.getIndustry());
+        return doc;
+    }
+
+    public static CompanySearchDTO toCompany(Document doc) {
+        return CompanySearchDTO.builder()
+                .id(id(doc))
+                .companyName(doc.get(NAME))
+                .location(doc.get(LOCATION))
+                .industry(doc.get(INDUSTRY))
+                .build();
+    }
+
+    // ================= USER =================
+
+    public static Document user(String type, UserSearchDTO user) {
+        Document doc = base(type, user.getId(), user.getName());
+        text(doc, user.getEmail(), user.getPhone(), user.getCompanyName());
+
+        store(doc, EMAIL, user.getEmail());
+        store(doc, PHONE, user.getPhone());
+        store(doc, COMPANY_NAME, user.getCompanyName());
+        return doc;
+    }
+
+    public static UserSearchDTO toUser(Document doc) {
+        return UserSearchDTO.builder()
+                .id(id(doc))
+                .name(doc.get(NAME))
+                .email(doc.get(EMAIL))
+                .phone(doc.get(PHONE))
+                .companyName(doc.get(COMPANY_NAME))
+                .build();
+    }
+
+    // ================= SKILL =================
+
+    public static Document skill(SkillDTO skill) {
+        return base(SKILL, skill.getId(), skill.getName());
+    }
+
+    public static SkillDTO toSkill(Document doc) {
+        return new SkillDTO(id(doc), doc.get(NAME));
+    }
+
+    // ================= HELPERS =================
+
+    private static Document base(String type, Long id, String name) {
+        Document doc = new Document();
+        doc.add(new StringField(TYPE, type, Field.Store.NO));
+        doc.add(new StoredField(ID, id));
+        doc.add(new NumericDocValuesField(ID, id));
+
+        if (name != null) {
+            doc.add(new TextField(NAME, name, Field.Store.YES));
+        }
+        return doc;
+    }
+
+    private static void text(Document doc, String... values) {
+        for (String value : values) {
+            if (value != null) {
+                doc.add(new TextField(TEXT, value, Field.Store.NO));
+            }
+        }
+    }
+
+    private static void store(Document doc, String field, String value) {
+        if (value != null) {
+            doc.add(new StoredField(field, value));
+        }
+    }
+
+    private static Long id(Document doc) {
+        return doc.getField(ID).numericValue().longValue();
+    }
+}
@@ -0,0 +1,119 @@
+package com.lwd.jobportal.search;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.lwd.jobportal.entity.Company;
+import com.lwd.jobportal.entity.Job;
+import com.lwd.jobportal.entity.JobSeeker;
+import com.lwd.jobportal.entity.Skill;
+import com.lwd.jobportal.entity.User;
+import com.lwd.jobportal.enums.JobStatus;
+import com.lwd.jobportal.enums.Role;
+import com.lwd.jobportal.util.TransactionHooks;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Single entry point for services to push entity changes into the in-memory indexes.
+ *
+ * Entities are snapshotted inside the caller's transaction (lazy associations
+ * still load) and applied only after commit, so a rollback never reaches the indexes.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexSync {
+
+    private final JobSearchIndex jobSearchIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final JobMatchIndex jobMatchIndex;
+    private final CandidateIndex candidateIndex;
+
+    // ================= JOBS =================
+
+    /**
+     * Create, update, status change or soft delete; non-public jobs are removed.
+     */
+    public void jobChanged(Job job) {
+        Long jobId = job.getId();
+        boolean searchable = job.getStatus() == JobStatus.OPEN && !Boolean.TRUE.equals(job.getDeleted());
+
+        if (!searchable) {
+            TransactionHooks.afterCommit(() -> {
+                jobSearchIndex.remove(jobId);
+                suggestionIndex.removeJob(jobId);
+                jobMatchIndex.removeJob(jobId);
+            });
+            return;
+        }
+
+        JobDocument document = JobDocument.from(job);
+        JobMatchProfile matchProfile = JobMatchProfile.from(job);
+        TransactionHooks.afterCommit(() -> {
+            jobSearchIndex.put(document);
+            suggestionIndex.putJob(document);
+            jobMatchIndex.putJob(matchProfile);
+        });
+    }
+
+    // ================= COMPANIES =================
+
+    public void companyChanged(Company company) {
+        Long companyId = company.getId();
+        String companyName = company.getCompanyName();
+        boolean active = !Boolean.FALSE.equals(company.getIsActive());
+
+        TransactionHooks.afterCommit(() -> {
+            jobSearchIndex.renameCompany(companyId, companyName);
+            if (active) {
+                suggestionIndex.putCompany(companyId, companyName);
+            } else {
+                suggestionIndex.removeCompany(companyId);
+            }
+        });
+    }
+
+    // ================= SKILLS =================
+
+    public void skillsCreated(Collection<Skill> skills) {
+        List<Skill> created = List.copyOf(skills);
+
+        TransactionHooks.afterCommit(() ->
+                created.forEach(skill -> suggestionIndex.putSkill(skill.getId(), skill.getName())));
+    }
+
+    // ================= JOB SEEKERS =================
+
+    /**
+     * Profile fields or skills changed; call after the changes are applied.
+     */
+    public void jobSeekerChanged(JobSeeker seeker) {
+        Long userId = seeker.getUser().getId();
+        CandidateProfile candidate = CandidateProfile.from(seeker);
+
+        TransactionHooks.afterCommit(() -> {
+            jobMatchIndex.seekerChanged(userId);
+            candidateIndex.put(candidate);
+        });
+    }
+
+    // ================= USERS =================
+
+    public void userChanged(User user) {
+        Long userId = user.getId();
+        String name = user.getName();
+        Role role = user.getRole();
+
+        TransactionHooks.afterCommit(() -> {
+            if (role == Role.JOB_SEEKER) {
+                suggestionIndex.putUser(SuggestionType.CANDIDATE, userId, name);
+            } else if (role == Role.RECRUITER || role == Role.RECRUITER_ADMIN) {
+                suggestionIndex.putUser(SuggestionType.RECRUITER, userId, name);
+            } else {
+                suggestionIndex.removeUser(userId);
+            }
+        });
+    }
+}
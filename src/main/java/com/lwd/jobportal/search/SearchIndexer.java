@@ -0,0 +1,86 @@
+package com.lwd.jobportal.search;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.lwd.jobportal.dto.search.CompanySearchDTO;
+import com.lwd.jobportal.dto.search.JobSearchDTO;
+import com.lwd.jobportal.dto.search.SkillDTO;
+import com.lwd.jobportal.dto.search.UserSearchDTO;
+import com.lwd.jobportal.enums.Role;
+import com.lwd.jobportal.repository.CompanyRepository;
+import com.lwd.jobportal.repository.JobRepository;
+import com.lwd.jobportal.repository.SkillRepository;
+import com.lwd.jobportal.repository.UserRepository;
+import com.lwd.jobportal.util.KeysetLoader;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk (re)indexer for the local search backend.
+ *
+ * Streams jobs, companies, users and skills as DTO projections in id order
+ * and replaces the Lucene index in a single commit. Runs at startup and then
+ * every {@code lwd.search.local.reindex-ms}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "lwd.search.backend", havingValue = "local")
+public class SearchIndexer {
+
+    private final LuceneSearchIndex index;
+    private final JobRepository jobRepository;
+    private final CompanyRepository companyRepository;
+    private final UserRepository userRepository;
+    private final SkillRepository skillRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        reindex();
+    }
+
+    @Scheduled(
+            initialDelayString = "${lwd.search.local.reindex-ms:900000}",
+            fixedDelayString = "${lwd.search.local.reindex-ms:900000}"
+    )
+    public void reindex() {
+        long start = System.currentTimeMillis();
+
+        try {
+            int count = index.rebuild(sink -> {
+                KeysetLoader.forEach(jobRepository::findJobSearchDocuments, JobSearchDTO::getId,
+                        job -> sink.accept(SearchDocuments.job(job)));
+
+                KeysetLoader.forEach(companyRepository::findCompanySearchDocuments, CompanySearchDTO::getId,
+                        company -> sink.accept(SearchDocuments.company(company)));
+
+                KeysetLoader.forEach(
+                        (afterId, limit) -> userRepository.findUserSearchDocuments(List.of(Role.JOB_SEEKER), afterId, limit),
+                        UserSearchDTO::getId,
+                        user -> sink.accept(SearchDocuments.user(SearchDocuments.CANDIDATE, user)));
+
+                KeysetLoader.forEach(
+                        (afterId, limit) -> userRepository.findUserSearchDocuments(
+                                List.of(Role.RECRUITER, Role.RECRUITER_ADMIN), afterId, limit),
+                        UserSearchDTO::getId,
+                        user -> sink.accept(SearchDocuments.user(SearchDocuments.RECRUITER, user)));
+
+                KeysetLoader.forEach(skillRepository::findSkillSearchDocuments, SkillDTO::getId,
+                        skill -> sink.accept(SearchDocuments.skill(skill)));
+            });
+
+            log.info("Search index rebuilt: {} documents in {} ms", count, System.currentTimeMillis() - start);
+
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Search index rebuild failed, keeping previous index: {}", ex.getMessage());
+        }
+    }
+}
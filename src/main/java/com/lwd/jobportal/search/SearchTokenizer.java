@@ -0,0 +1,44 @@
+package com.lwd.jobportal.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Shared text normalisation for the in-memory search structures.
+ *
+ * Keeps letters, digits and the '+' / '#' characters so that terms
+ * like "c++" or "c#" survive tokenisation.
+ */
+public final class SearchTokenizer {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+
+    private SearchTokenizer() {
+    }
+
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    public static Set<String> tokenize(String value) {
+        Set<String> tokens = new LinkedHashSet<>();
+        String normalized = normalize(value);
+
+        if (normalized == null) {
+            return tokens;
+        }
+
+        for (String token : SEPARATORS.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
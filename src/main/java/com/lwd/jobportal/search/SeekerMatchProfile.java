@@ -0,0 +1,36 @@
+package com.lwd.jobportal.search;
+
+import java.util.List;
+
+import com.lwd.jobportal.entity.JobSeeker;
+import com.lwd.jobportal.entity.Skill;
+
+/**
+ * The parts of a job seeker profile that {@link JobMatchIndex} scores with.
+ */
+public record SeekerMatchProfile(
+        Integer totalExperience,
+        Double expectedCTC,
+        Integer noticePeriod,
+        String preferredLocationKey,
+        String currentCompanyKey,
+        Integer profileCompletion,
+        List<Long> skillIds
+) {
+
+    public static SeekerMatchProfile from(JobSeeker seeker) {
+        List<Long> skillIds = seeker.getSkills() == null
+                ? List.of()
+                : seeker.getSkills().stream().map(Skill::getId).toList();
+
+        return new SeekerMatchProfile(
+                seeker.getTotalExperience(),
+                seeker.getExpectedCTC(),
+                seeker.getNoticePeriod(),
+                SearchTokenizer.normalize(seeker.getPreferredLocation()),
+                SearchTokenizer.normalize(seeker.getCurrentCompany()),
+                seeker.getProfileCompletion(),
+                skillIds
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package com.lwd.jobportal.search;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Normalised skill names: the keys of the skills table and of every index
+ * built from it, so job skills text, seeker input and stored rows all resolve
+ * to the same skill.
+ */
+public final class SkillNames {
+
+    // Separators recruiters use in the job skills text
+    private static final Pattern SEPARATOR = Pattern.compile("[,;|\\n]");
+
+    private SkillNames() {
+    }
+
+    /**
+     * Splits a job's skills text into distinct normalised names, in input order.
+     */
+    public static Set<String> parse(String skillsText) {
+        if (skillsText == null || skillsText.isBlank()) {
+            return Set.of();
+        }
+        return normalize(Arrays.asList(SEPARATOR.split(skillsText)));
+    }
+
+    /**
+     * Distinct non-blank names, trimmed and lower-cased, in input order.
+     */
+    public static Set<String> normalize(Collection<String> skillNames) {
+        return skillNames.stream()
+                .filter(Objects::nonNull)
+                .map(SearchTokenizer::normalize)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -0,0 +1,18 @@
+package com.lwd.jobportal.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One typeahead entry. {@code key} identifies it for updates:
+ * the entity id, or the normalised label for job facets.
+ */
+@Getter
+@AllArgsConstructor
+public class Suggestion {
+
+    private final Object key;
+    private final Long id;
+    private final String label;
+    private final long weight;
+}
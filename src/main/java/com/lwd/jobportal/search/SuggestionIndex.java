@@ -0,0 +1,311 @@
+package com.lwd.jobportal.search;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.lwd.jobportal.dto.search.CompanySearchDTO;
+import com.lwd.jobportal.dto.search.SkillDTO;
+import com.lwd.jobportal.dto.search.UserSearchDTO;
+import com.lwd.jobportal.enums.Role;
+import com.lwd.jobportal.repository.CompanyRepository;
+import com.lwd.jobportal.repository.JobRepository;
+import com.lwd.jobportal.repository.SkillRepository;
+import com.lwd.jobportal.repository.UserRepository;
+import com.lwd.jobportal.util.KeysetLoader;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory typeahead over jobs, companies, skills and users.
+ *
+ * One {@link SuggestionTrie} per {@link SuggestionType}. Weights:
+ * <ul>
+ *   <li>JOB – posting time, newest first</li>
+ *   <li>COMPANY – number of open jobs</li>
+ *   <li>SKILL – number of job seekers listing it</li>
+ *   <li>CANDIDATE / RECRUITER – none, alphabetical</li>
+ *   <li>job facets – number of open jobs sharing the value</li>
+ * </ul>
+ * Built at startup, kept current through {@link SearchIndexSync} and rebuilt
+ * periodically to pick up popularity drift and writes from other nodes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SuggestionIndex {
+
+    private final JobRepository jobRepository;
+    private final CompanyRepository companyRepository;
+    private final UserRepository userRepository;
+    private final SkillRepository skillRepository;
+
+    private final IndexRebuilder<State> index =
+            new IndexRebuilder<>("Suggestion index", new State(), new ReentrantLock(), 0L);
+
+    public boolean isReady() {
+        return index.isReady();
+    }
+
+    // ==================================================
+    // QUERY
+    // ==================================================
+
+    /**
+     * Top {@code perType} completions of each requested type, grouped in the
+     * given type order and capped at {@code limit} overall.
+     */
+    public List<Suggestion> suggest(String prefix, List<SuggestionType> types, int perType, int limit) {
+        State current = index.state();
+        List<Suggestion> result = new ArrayList<>(limit);
+
+        for (SuggestionType type : types) {
+            for (Suggestion suggestion : current.trie(type).top(prefix, perType)) {
+                if (result.size() == limit) {
+                    return result;
+                }
+                result.add(suggestion);
+            }
+        }
+        return result;
+    }
+
+    // ==================================================
+    // BUILD
+    // ==================================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${lwd.search.suggestions.refresh-ms:600000}",
+            fixedDelayString = "${lwd.search.suggestions.refresh-ms:600000}"
+    )
+    public void rebuild() {
+        State built = index.rebuild(() -> {
+            State fresh = new State();
+
+            // Companies first so job counts can weight them
+            KeysetLoader.forEach(companyRepository::findCompanySearchDocuments, CompanySearchDTO::getId,
+                    company -> fresh.putCompany(company.getId(), company.getCompanyName()));
+
+            KeysetLoader.forEach(jobRepository::findPublicJobDocuments, JobDocument::getId, fresh::putJob);
+
+            Map<Long, Long> seekersPerSkill = new HashMap<>();
+            for (Object[] row : skillRepository.countJobSeekersPerSkill()) {
+                seekersPerSkill.put((Long) row[0], (Long) row[1]);
+            }
+            KeysetLoader.forEach(skillRepository::findSkillSearchDocuments, SkillDTO::getId,
+                    skill -> fresh.putSkill(skill.getId(), skill.getName(),
+                            seekersPerSkill.getOrDefault(skill.getId(), 0L)));
+
+            KeysetLoader.forEach(
+                    (afterId, limit) -> userRepository.findUserSearchDocuments(List.of(Role.JOB_SEEKER), afterId, limit),
+                    UserSearchDTO::getId,
+                    user -> fresh.putUser(SuggestionType.CANDIDATE, user.getId(), user.getName()));
+
+            KeysetLoader.forEach(
+                    (afterId, limit) -> userRepository.findUserSearchDocuments(
+                            List.of(Role.RECRUITER, Role.RECRUITER_ADMIN), afterId, limit),
+                    UserSearchDTO::getId,
+                    user -> fresh.putUser(SuggestionType.RECRUITER, user.getId(), user.getName()));
+
+            return fresh;
+        });
+
+        if (built != null) {
+            log.info("Suggestion index built with {} entries", built.size());
+        }
+    }
+
+    // ==================================================
+    // INCREMENTAL UPDATES (called after commit)
+    // ==================================================
+
+    public void putJob(JobDocument job) {
+        apply(target -> target.putJob(job));
+    }
+
+    public void removeJob(Long jobId) {
+        apply(target -> target.removeJob(jobId));
+    }
+
+    public void putCompany(Long companyId, String companyName) {
+        apply(target -> target.putCompany(companyId, companyName));
+    }
+
+    public void removeCompany(Long companyId) {
+        apply(target -> target.removeCompany(companyId));
+    }
+
+    public void putSkill(Long skillId, String name) {
+        apply(target -> {
+            // Keep the popularity of a known skill; new skills start at zero
+            Suggestion existing = target.trie(SuggestionType.SKILL).get(skillId);
+            target.putSkill(skillId, name, existing != null ? existing.getWeight() : 0L);
+        });
+    }
+
+    public void putUser(SuggestionType type, Long userId, String name) {
+        apply(target -> {
+            target.removeUser(userId);
+            target.putUser(type, userId, name);
+        });
+    }
+
+    public void removeUser(Long userId) {
+        apply(target -> target.removeUser(userId));
+    }
+
+    private void apply(Consumer<State> op) {
+        index.apply(op);
+    }
+
+    // ==================================================
+    // STATE
+    // ==================================================
+
+    private static class State {
+
+        private final Map<SuggestionType, SuggestionTrie> tries = new EnumMap<>(SuggestionType.class);
+
+        // Current job snapshots, so facet counts can be moved on update
+        private final Map<Long, JobDocument> jobs = new HashMap<>();
+
+        // Facet value counts, keyed by normalised label
+        private final Map<SuggestionType, Map<String, Long>> facetCounts = new EnumMap<>(SuggestionType.class);
+
+        private final Map<Long, String> companyNames = new HashMap<>();
+        private final Map<Long, Long> openJobsPerCompany = new HashMap<>();
+
+        State() {
+            for (SuggestionType type : SuggestionType.values()) {
+                tries.put(type, new SuggestionTrie());
+            }
+            for (SuggestionType type : SuggestionType.JOB_FACETS) {
+                facetCounts.put(type, new HashMap<>());
+            }
+        }
+
+        SuggestionTrie trie(SuggestionType type) {
+            return tries.get(type);
+        }
+
+        int size() {
+            return tries.values().stream().mapToInt(SuggestionTrie::size).sum();
+        }
+
+        // ===== JOBS =====
+
+        void putJob(JobDocument job) {
+            removeJob(job.getId());
+            jobs.put(job.getId(), job);
+
+            long postedAt = job.getCreatedAt() != null ? job.getCreatedAt().toEpochSecond(ZoneOffset.UTC) : 0L;
+            trie(SuggestionType.JOB).put(new Suggestion(job.getId(), job.getId(), job.getTitle(), postedAt));
+
+            adjustFacet(SuggestionType.JOB_TITLE, job.getTitle(), 1);
+            adjustFacet(SuggestionType.JOB_LOCATION, job.getLocation(), 1);
+            adjustFacet(SuggestionType.JOB_COMPANY, job.getCompanyName(), 1);
+            adjustFacet(SuggestionType.JOB_INDUSTRY, job.getIndustry(), 1);
+            adjustCompanyJobs(job.getCompanyId(), 1);
+        }
+
+        void removeJob(Long jobId) {
+            JobDocument previous = jobs.remove(jobId);
+            if (previous == null) {
+                return;
+            }
+
+            trie(SuggestionType.JOB).remove(jobId);
+
+            adjustFacet(SuggestionType.JOB_TITLE, previous.getTitle(), -1);
+            adjustFacet(SuggestionType.JOB_LOCATION, previous.getLocation(), -1);
+            adjustFacet(SuggestionType.JOB_COMPANY, previous.getCompanyName(), -1);
+            adjustFacet(SuggestionType.JOB_INDUSTRY, previous.getIndustry(), -1);
+            adjustCompanyJobs(previous.getCompanyId(), -1);
+        }
+
+        private void adjustFacet(SuggestionType type, String label, long delta) {
+            String key = SuggestionTrie.normalizePrefix(label);
+            if (key == null) {
+                return;
+            }
+
+            Long count = facetCounts.get(type).merge(key, delta, Long::sum);
+
+            if (count <= 0) {
+                facetCounts.get(type).remove(key);
+                trie(type).remove(key);
+            } else {
+                // Keep the first-seen spelling of the label
+                Suggestion existing = trie(type).get(key);
+                String display = existing != null ? existing.getLabel() : label.trim();
+                trie(type).put(new Suggestion(key, null, display, count));
+            }
+        }
+
+        // ===== COMPANIES =====
+
+        void putCompany(Long companyId, String companyName) {
+            String previousName = companyNames.put(companyId, companyName);
+            trie(SuggestionType.COMPANY).put(new Suggestion(
+                    companyId, companyId, companyName, openJobsPerCompany.getOrDefault(companyId, 0L)));
+
+            // Renamed: move this company's jobs to the new facet label
+            if (previousName != null && !previousName.equals(companyName)) {
+                List<JobDocument> affected = jobs.values().stream()
+                        .filter(job -> companyId.equals(job.getCompanyId()))
+                        .toList();
+                for (JobDocument job : affected) {
+                    putJob(job.withCompanyName(companyName));
+                }
+            }
+        }
+
+        void removeCompany(Long companyId) {
+            companyNames.remove(companyId);
+            trie(SuggestionType.COMPANY).remove(companyId);
+        }
+
+        private void adjustCompanyJobs(Long companyId, long delta) {
+            if (companyId == null) {
+                return;
+            }
+
+            long count = openJobsPerCompany.merge(companyId, delta, Long::sum);
+            String name = companyNames.get(companyId);
+            if (name != null) {
+                trie(SuggestionType.COMPANY).put(new Suggestion(companyId, companyId, name, count));
+            }
+        }
+
+        // ===== SKILLS & USERS =====
+
+        void putSkill(Long skillId, String name, long seekers) {
+            trie(SuggestionType.SKILL).put(new Suggestion(skillId, skillId, name, seekers));
+        }
+
+        void putUser(SuggestionType type, Long userId, String name) {
+            trie(type).put(new Suggestion(userId, userId, name, 0L));
+        }
+
+        void removeUser(Long userId) {
+            trie(SuggestionType.CANDIDATE).remove(userId);
+            trie(SuggestionType.RECRUITER).remove(userId);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.lwd.jobportal.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Weighted prefix trie for a single {@link SuggestionType}.
+ *
+ * Every entry is reachable from its whole normalised label and from the start
+ * of each later word ("senior java developer" also under "java developer" and
+ * "developer"). Nodes keep sorted child arrays instead of maps, and each node
+ * tracks the best entry in its subtree, so top-k is a best-first walk that
+ * stops after k hits instead of scanning every completion.
+ */
+class SuggestionTrie {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Suggestion[] NO_ENTRIES = new Suggestion[0];
+
+    // Higher weight first, then name order (case-insensitive, then exact), then id
+    private static final Comparator<Suggestion> BY_RANK =
+            Comparator.comparingLong(Suggestion::getWeight).reversed()
+                    .thenComparing(Suggestion::getLabel, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparing(Suggestion::getLabel)
+                    .thenComparing(Suggestion::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    // A node ranks as the best entry below it, so no entry can outrank its node;
+    // on a tie the entry is emitted first
+    private static final Comparator<Candidate> BEST_FIRST =
+            Comparator.comparing(Candidate::rank, BY_RANK)
+                    .thenComparing(c -> c.node() != null);
+
+    private final Node root = new Node();
+    private final Map<Object, Suggestion> byKey = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ==================================================
+    // WRITE
+    // ==================================================
+
+    void put(Suggestion suggestion) {
+        lock.writeLock().lock();
+        try {
+            Suggestion previous = byKey.put(suggestion.getKey(), suggestion);
+            if (previous != null) {
+                for (String key : keysOf(previous.getLabel())) {
+                    delete(key, previous);
+                }
+            }
+            for (String key : keysOf(suggestion.getLabel())) {
+                insert(key, suggestion);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Object entryKey) {
+        lock.writeLock().lock();
+        try {
+            Suggestion previous = byKey.remove(entryKey);
+            if (previous != null) {
+                for (String key : keysOf(previous.getLabel())) {
+                    delete(key, previous);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    Suggestion get(Object entryKey) {
+        lock.readLock().lock();
+        try {
+            return byKey.get(entryKey);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return byKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(String key, Suggestion suggestion) {
+        Node node = root;
+        node.offerBest(suggestion);
+
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+            node.offerBest(suggestion);
+        }
+        node.addEntry(suggestion);
+    }
+
+    private void delete(String key, Suggestion suggestion) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+
+        path[key.length()].removeEntry(suggestion);
+
+        // Bottom-up: refresh subtree bests and prune empty branches
+        for (int i = key.length(); i >= 0; i--) {
+            Node node = path[i];
+            if (i > 0 && node.isEmpty()) {
+                path[i - 1].removeChild(key.charAt(i - 1));
+            } else {
+                node.recomputeBest();
+            }
+        }
+    }
+
+    // ==================================================
+    // READ
+    // ==================================================
+
+    List<Suggestion> top(String prefix, int limit) {
+        String normalized = normalizePrefix(prefix);
+        if (normalized == null || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < normalized.length() && node != null; i++) {
+                node = node.child(normalized.charAt(i));
+            }
+            if (node == null || node.best == null) {
+                return List.of();
+            }
+
+            PriorityQueue<Candidate> queue = new PriorityQueue<>(BEST_FIRST);
+            queue.add(new Candidate(node.best, node));
+
+            // The same entry can be reached through several word starts
+            Set<Suggestion> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            List<Suggestion> result = new ArrayList<>(limit);
+
+            while (!queue.isEmpty() && result.size() < limit) {
+                Candidate candidate = queue.poll();
+
+                Node current = candidate.node();
+                if (current == null) {
+                    if (seen.add(candidate.rank())) {
+                        result.add(candidate.rank());
+                    }
+                    continue;
+                }
+
+                for (Suggestion entry : current.entries) {
+                    queue.add(new Candidate(entry, null));
+                }
+                for (Node child : current.children) {
+                    queue.add(new Candidate(child.best, child));
+                }
+            }
+            return result;
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==================================================
+    // KEYS
+    // ==================================================
+
+    static String normalizePrefix(String value) {
+        String normalized = SearchTokenizer.normalize(value);
+        return normalized == null ? null : WHITESPACE.matcher(normalized).replaceAll(" ");
+    }
+
+    static Set<String> keysOf(String label) {
+        Set<String> keys = new LinkedHashSet<>();
+
+        String full = normalizePrefix(label);
+        if (full == null) {
+            return keys;
+        }
+        keys.add(full);
+
+        List<String> words = new ArrayList<>(SearchTokenizer.tokenize(label));
+        for (int i = 0; i < words.size(); i++) {
+            keys.add(String.join(" ", words.subList(i, words.size())));
+        }
+        return keys;
+    }
+
+    // ==================================================
+    // NODES
+    // ==================================================
+
+    // An entry (node null), or a node ranked by the best entry in its subtree
+    private record Candidate(Suggestion rank, Node node) {
+    }
+
+    private static final class Node {
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private Suggestion[] entries = NO_ENTRIES;
+        private Suggestion best;
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node childOrCreate(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i >= 0) {
+                return children[i];
+            }
+
+            int at = -i - 1;
+            Node created = new Node();
+
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            newKeys[at] = c;
+            newChildren[at] = created;
+            System.arraycopy(keys, at, newKeys, at + 1, keys.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+
+            keys = newKeys;
+            children = newChildren;
+            return created;
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i < 0) {
+                return;
+            }
+
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            System.arraycopy(keys, i + 1, newKeys, i, keys.length - i - 1);
+            System.arraycopy(children, i + 1, newChildren, i, children.length - i - 1);
+
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        void addEntry(Suggestion suggestion) {
+            for (Suggestion existing : entries) {
+                if (existing == suggestion) {
+                    return;
+                }
+            }
+            entries = Arrays.copyOf(entries, entries.length + 1);
+            entries[entries.length - 1] = suggestion;
+        }
+
+        void removeEntry(Suggestion suggestion) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i] == suggestion) {
+                    Suggestion[] remaining = new Suggestion[entries.length - 1];
+                    System.arraycopy(entries, 0, remaining, 0, i);
+                    System.arraycopy(entries, i + 1, remaining, i, entries.length - i - 1);
+                    entries = remaining.length == 0 ? NO_ENTRIES : remaining;
+                    return;
+                }
+            }
+        }
+
+        void offerBest(Suggestion suggestion) {
+            if (best == null || BY_RANK.compare(suggestion, best) < 0) {
+                best = suggestion;
+            }
+        }
+
+        void recomputeBest() {
+            best = null;
+            for (Suggestion entry : entries) {
+                offerBest(entry);
+            }
+            for (Node child : children) {
+                offerBest(child.best);
+            }
+        }
+
+        boolean isEmpty() {
+            return entries.length == 0 && children.length == 0;
+        }
+    }
+}
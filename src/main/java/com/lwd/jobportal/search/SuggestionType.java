@@ -0,0 +1,29 @@
+package com.lwd.jobportal.search;
+
+import java.util.List;
+
+/**
+ * Kinds of typeahead entries held by {@link SuggestionIndex}.
+ *
+ * Entity types carry an id and back /api/search/suggestions;
+ * facet types are distinct job field values backing /api/jobs/suggestions.
+ */
+public enum SuggestionType {
+
+    // ===== ENTITIES =====
+    JOB,
+    COMPANY,
+    SKILL,
+    CANDIDATE,
+    RECRUITER,
+
+    // ===== JOB FACETS =====
+    JOB_TITLE,
+    JOB_LOCATION,
+    JOB_COMPANY,
+    JOB_INDUSTRY;
+
+    public static final List<SuggestionType> ENTITIES = List.of(JOB, COMPANY, SKILL, CANDIDATE, RECRUITER);
+
+    public static final List<SuggestionType> JOB_FACETS = List.of(JOB_TITLE, JOB_LOCATION, JOB_COMPANY, JOB_INDUSTRY);
+}
@@ -0,0 +1,42 @@
+package com.lwd.jobportal.security;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.lwd.jobportal.enums.Role;
+
+/**
+ * Principal stored in the security context by {@link JwtFilter}.
+ *
+ * Built once per verified token; {@link SecurityUtils} reads its fields directly
+ * instead of scanning authority strings.
+ */
+public record AuthenticatedUser(Long userId, Role role, Long companyId) implements AuthenticatedPrincipal {
+
+    // One immutable authority list per role, shared by all principals
+    private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : Role.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
+    public AuthenticatedUser withoutCompany() {
+        return new AuthenticatedUser(userId, role, null);
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return AUTHORITIES.get(role);
+    }
+
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+}
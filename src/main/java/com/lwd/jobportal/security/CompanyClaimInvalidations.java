@@ -0,0 +1,92 @@
+package com.lwd.jobportal.security;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lwd.jobportal.repository.UserRepository;
+import com.lwd.jobportal.util.TransactionHooks;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tracks when a user's company ownership or assignment last changed, so a
+ * {@code companyId} claim minted before that moment is ignored.
+ *
+ * The change time is stored on the user row and applied locally after commit;
+ * other nodes pick it up by polling every {@code lwd.security.jwt.company-sync-ms}.
+ * Only changes younger than the token lifetime are kept.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompanyClaimInvalidations {
+
+    // Overlap between polls so changes committed during a poll are not missed
+    private static final long POLL_OVERLAP_MS = 5_000;
+
+    private final UserRepository userRepository;
+
+    private final ConcurrentHashMap<Long, Long> changedAt = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime lastPoll;
+
+    /**
+     * Call after changing which company the user owns or belongs to.
+     */
+    @Transactional
+    public void companyChanged(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        userRepository.markCompanyChanged(userId, now);
+
+        long millis = toMillis(now);
+        TransactionHooks.afterCommit(() -> changedAt.merge(userId, millis, Math::max));
+    }
+
+    public boolean isStale(VerifiedToken token) {
+        Long changed = changedAt.get(token.userId());
+        return changed != null && token.issuedAtMillis() < changed;
+    }
+
+    // ==================================================
+    // SYNC
+    // ==================================================
+
+    @PostConstruct
+    void load() {
+        lastPoll = LocalDateTime.now().minus(Duration.ofMillis(JwtUtil.EXPIRATION_TIME));
+        sync();
+    }
+
+    @Scheduled(
+            initialDelayString = "${lwd.security.jwt.company-sync-ms:5000}",
+            fixedDelayString = "${lwd.security.jwt.company-sync-ms:5000}"
+    )
+    public void sync() {
+        LocalDateTime pollStart = LocalDateTime.now();
+
+        try {
+            for (Object[] row : userRepository.findCompanyChangesSince(lastPoll)) {
+                changedAt.merge((Long) row[0], toMillis((LocalDateTime) row[1]), Math::max);
+            }
+            lastPoll = pollStart.minus(Duration.ofMillis(POLL_OVERLAP_MS));
+        } catch (RuntimeException ex) {
+            log.warn("Company claim sync failed: {}", ex.getMessage());
+        }
+
+        // Tokens issued before this are expired anyway
+        long horizon = System.currentTimeMillis() - JwtUtil.EXPIRATION_TIME;
+        changedAt.values().removeIf(changed -> changed < horizon);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -5,24 +5,22 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.lwd.jobportal.enums.Role;
-
 import java.io.IOException;
-import java.util.List;
 
 
 @Component
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final CompanyClaimInvalidations companyClaimInvalidations;
 
-    public JwtFilter(JwtUtil jwtUtil) {
+    public JwtFilter(JwtUtil jwtUtil, CompanyClaimInvalidations companyClaimInvalidations) {
         this.jwtUtil = jwtUtil;
+        this.companyClaimInvalidations = companyClaimInvalidations;
     }
 
     @Override
@@ -42,17 +40,22 @@ public class JwtFilter extends OncePerRequestFilter {
         String token = authHeader.substring(7);
 
         try {
-            Long userId = jwtUtil.extractUserId(token);
-            Role role = jwtUtil.extractRole(token);
-//            String email = jwtUtil.extractUsername(token);
+            // One signature check per token, then cached until it expires
+            VerifiedToken verified = jwtUtil.verify(token);
+            AuthenticatedUser principal = verified.principal();
+
+            // Company changed since login: drop the claim, callers look it up instead
+            if (principal.companyId() != null && companyClaimInvalidations.isStale(verified)) {
+                principal = principal.withoutCompany();
+            }
 
             if (SecurityContextHolder.getContext().getAuthentication() == null) {
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                userId, // ✅ principal
+                                principal, // ✅ userId, role, companyId
                                 null,  // optional
-                                List.of(new SimpleGrantedAuthority("ROLE_" + role.name()))
+                                principal.authorities()
                         );
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
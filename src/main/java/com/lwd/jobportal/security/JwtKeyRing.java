@@ -0,0 +1,144 @@
+package com.lwd.jobportal.security;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HMAC signing keys shared by every API node.
+ *
+ * Keys are read as {@code kid=base64-secret} pairs from {@code lwd.security.jwt.keys-file}
+ * and/or the inline {@code lwd.security.jwt.keys} list ({@code kid:secret,kid:secret}).
+ * New tokens are signed with {@code lwd.security.jwt.active-kid}; any listed key still
+ * verifies, so a rotation is: add the new key everywhere, switch the active kid, and
+ * drop the old key once its tokens have expired.
+ *
+ * Without configured keys startup fails, except under the {@code dev} or {@code test}
+ * profile, where a random per-process key keeps a single local node working.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    private static final String DEV_KID = "dev";
+    private static final Profiles RANDOM_KEY_PROFILES = Profiles.of("dev", "test");
+
+    private final Map<String, Key> keys = new LinkedHashMap<>();
+    private final String activeKid;
+    private final JwtParser parser;
+
+    public JwtKeyRing(
+            @Value("${lwd.security.jwt.keys-file:}") String keysFile,
+            @Value("${lwd.security.jwt.keys:}") String inlineKeys,
+            @Value("${lwd.security.jwt.active-kid:}") String activeKid,
+            Environment environment
+    ) {
+        if (!keysFile.isBlank()) {
+            loadFile(Path.of(keysFile));
+        }
+        if (!inlineKeys.isBlank()) {
+            loadInline(inlineKeys);
+        }
+
+        if (keys.isEmpty()) {
+            if (!environment.acceptsProfiles(RANDOM_KEY_PROFILES)) {
+                throw new IllegalStateException("No JWT signing keys configured. "
+                        + "Set lwd.security.jwt.keys-file or lwd.security.jwt.keys, "
+                        + "or run with the dev or test profile to use a random key.");
+            }
+            log.warn("No JWT signing keys configured; using a random key. Tokens will not survive a restart "
+                    + "or work across nodes. Set lwd.security.jwt.keys-file or lwd.security.jwt.keys.");
+            keys.put(DEV_KID, Keys.secretKeyFor(SignatureAlgorithm.HS256));
+            this.activeKid = DEV_KID;
+        } else {
+            this.activeKid = activeKid.isBlank() ? keys.keySet().iterator().next() : activeKid;
+            if (!keys.containsKey(this.activeKid)) {
+                throw new IllegalStateException("Active JWT key '" + this.activeKid + "' is not in the key ring");
+            }
+        }
+
+        // One parser for the whole ring; the kid header selects the key
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return verificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+
+        log.info("JWT key ring loaded: {} key(s), active kid '{}'", keys.size(), this.activeKid);
+    }
+
+    public String getActiveKid() {
+        return activeKid;
+    }
+
+    public Key getActiveKey() {
+        return keys.get(activeKid);
+    }
+
+    public JwtParser getParser() {
+        return parser;
+    }
+
+    private Key verificationKey(String kid) {
+        Key key = kid != null ? keys.get(kid) : null;
+        if (key == null) {
+            throw new SignatureException("Unknown JWT key id: " + kid);
+        }
+        return key;
+    }
+
+    // ==================================================
+    // LOADING
+    // ==================================================
+
+    private void loadFile(Path path) {
+        Properties entries = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            entries.load(reader);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot read JWT key file " + path, ex);
+        }
+        entries.stringPropertyNames().stream().sorted()
+                .forEach(kid -> addKey(kid, entries.getProperty(kid)));
+    }
+
+    private void loadInline(String inlineKeys) {
+        for (String entry : inlineKeys.split(",")) {
+            String[] parts = entry.trim().split(":", 2);
+            if (parts.length != 2) {
+                throw new IllegalStateException("JWT keys must be listed as kid:base64-secret");
+            }
+            addKey(parts[0], parts[1]);
+        }
+    }
+
+    private void addKey(String kid, String secret) {
+        // Rejects secrets shorter than 256 bits
+        keys.put(kid.trim(), Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret.trim())));
+    }
+}
@@ -0,0 +1,54 @@
+package com.lwd.jobportal.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Bounded cache of already verified tokens.
+ *
+ * Keyed by the SHA-256 of the token so raw bearer tokens are not kept on the heap.
+ * Entries expire with the token itself. Backed by Caffeine, so concurrent
+ * requests never contend on a shared lock.
+ */
+class JwtTokenCache {
+
+    private final Cache<String, VerifiedToken> entries;
+
+    JwtTokenCache(int maxSize) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String key, VerifiedToken token) ->
+                        Duration.ofMillis(Math.max(0L, token.expiresAtMillis() - System.currentTimeMillis()))))
+                .build();
+    }
+
+    VerifiedToken get(String key, long nowMillis) {
+        VerifiedToken token = entries.getIfPresent(key);
+        if (token != null && token.isExpired(nowMillis)) {
+            entries.invalidate(key);
+            return null;
+        }
+        return token;
+    }
+
+    void put(String key, VerifiedToken token) {
+        entries.put(key, token);
+    }
+
+    static String keyOf(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -1,69 +1,99 @@
 package com.lwd.jobportal.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import com.lwd.jobportal.enums.Role;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 
-import java.nio.charset.StandardCharsets;
-import java.security.Key;
-import java.util.Base64;
 import java.util.Date;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
-    private final String SECRET_KEY = Base64.getEncoder()
-            .encodeToString(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+    static final long EXPIRATION_TIME = 1000 * 60 * 60 * 24; // 24 hours
 
-    private final long EXPIRATION_TIME = 1000 * 60 * 60 * 24; // 24 hours
+    private final JwtKeyRing keyRing;
+    private final JwtTokenCache tokenCache;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    public JwtUtil(JwtKeyRing keyRing, @Value("${lwd.security.jwt.cache-size:10000}") int cacheSize) {
+        this.keyRing = keyRing;
+        this.tokenCache = new JwtTokenCache(cacheSize);
     }
 
     // ✅ Generate token with userId
-    public String generateToken(Long userId, String email, String role) {
+    public String generateToken(Long userId, String email, String role, Long companyId) {
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getActiveKid())
                 .setSubject(email)
                 .claim("userId", userId)
                 .claim("role", role)
+                .claim("companyId", companyId)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(keyRing.getActiveKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Verifies the token once and returns its claims; repeat calls with the
+     * same token are served from the cache until the token expires.
+     * Throws a {@link io.jsonwebtoken.JwtException} for invalid or expired tokens.
+     */
+    public VerifiedToken verify(String token) {
+        long now = System.currentTimeMillis();
+        String key = JwtTokenCache.keyOf(token);
+
+        VerifiedToken cached = tokenCache.get(key, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parseClaims(token);
+        AuthenticatedUser principal = new AuthenticatedUser(
+                claims.get("userId", Long.class),
+                Role.valueOf(claims.get("role", String.class)),
+                claims.get("companyId", Long.class)
+        );
+        VerifiedToken verified = new VerifiedToken(
+                principal,
+                claims.getSubject(),
+                claims.getIssuedAt().getTime(),
+                claims.getExpiration().getTime()
+        );
+
+        tokenCache.put(key, verified);
+        return verified;
+    }
+
     public Long extractUserId(String token) {
-        return extractClaim(token, c -> c.get("userId", Long.class));
+        return verify(token).userId();
     }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).email();
     }
 
     public Role extractRole(String token) {
-        String role = extractClaim(token, c -> c.get("role", String.class));
-        return Role.valueOf(role);
+        return verify(token).role();
     }
 
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return new Date(verify(token).expiresAtMillis());
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(parseClaims(token));
+    }
+
+    private Claims parseClaims(String token) {
+        return keyRing.getParser().parseClaimsJws(token).getBody();
     }
 
     public boolean validateToken(String token, UserDetails userDetails) {
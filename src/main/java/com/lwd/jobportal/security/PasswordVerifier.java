@@ -0,0 +1,80 @@
+package com.lwd.jobportal.security;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.lwd.jobportal.exception.TooManyRequestsException;
+
+/**
+ * Runs password checks on the bounded {@code passwordHashExecutor}.
+ *
+ * A check that cannot be queued, or is not finished within
+ * {@code lwd.auth.password-hash.timeout-ms} including queue time, fails with
+ * {@link TooManyRequestsException}.
+ */
+@Component
+public class PasswordVerifier {
+
+    private static final String BUSY_MESSAGE = "Too many login attempts right now. Please retry shortly.";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMillis;
+
+    // Checked against for unknown emails, so they take as long as a wrong password
+    private final String dummyHash;
+
+    public PasswordVerifier(
+            PasswordEncoder passwordEncoder,
+            @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor executor,
+            @Value("${lwd.auth.password-hash.timeout-ms:5000}") long timeoutMillis
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+        this.dummyHash = passwordEncoder.encode("lwd-unknown-user-password");
+    }
+
+    /**
+     * @param encodedPassword stored hash, or null when the user does not exist
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (rawPassword == null) {
+            return false;
+        }
+
+        String hash = encodedPassword != null ? encodedPassword : dummyHash;
+        Future<Boolean> check;
+
+        try {
+            check = executor.submit(() -> passwordEncoder.matches(rawPassword, hash));
+        } catch (RejectedExecutionException ex) {
+            throw new TooManyRequestsException(BUSY_MESSAGE);
+        }
+
+        try {
+            return check.get(timeoutMillis, TimeUnit.MILLISECONDS) && encodedPassword != null;
+
+        } catch (TimeoutException ex) {
+            check.cancel(true);
+            throw new TooManyRequestsException(BUSY_MESSAGE);
+
+        } catch (InterruptedException ex) {
+            check.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new TooManyRequestsException(BUSY_MESSAGE);
+
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Password check failed", ex.getCause());
+        }
+    }
+}
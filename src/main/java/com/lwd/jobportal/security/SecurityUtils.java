@@ -1,35 +1,38 @@
 package com.lwd.jobportal.security;
 
+import java.util.Optional;
+
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import com.lwd.jobportal.enums.Role;
 
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-
 public class SecurityUtils {
 
+    public static AuthenticatedUser getCurrentUser() {
+        return findCurrentUser()
+                .orElseThrow(() -> new AuthenticationCredentialsNotFoundException("User not authenticated"));
+    }
+
+    public static Optional<AuthenticatedUser> findCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return Optional.of(user);
+        }
+        return Optional.empty();
+    }
+
     public static Long getUserId() {
-        return (Long) SecurityContextHolder
-                .getContext()
-                .getAuthentication()
-                .getPrincipal();
+        return getCurrentUser().userId();
     }
 
     public static boolean hasRole(Role role) {
-        return SecurityContextHolder
-        		.getContext()
-        		.getAuthentication()
-                .getAuthorities()
-                .contains(new SimpleGrantedAuthority("ROLE_" + role.name()));
+        return getCurrentUser().role() == role;
     }
     
     public static Role getRole() {
-        return SecurityContextHolder.getContext().getAuthentication()
-                .getAuthorities()
-                .stream()
-                .map(a -> a.getAuthority().replace("ROLE_", ""))
-                .map(Role::valueOf)
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("Role not found"));
+        return getCurrentUser().role();
     }
 }
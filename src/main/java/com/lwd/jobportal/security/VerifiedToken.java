@@ -0,0 +1,21 @@
+package com.lwd.jobportal.security;
+
+import com.lwd.jobportal.enums.Role;
+
+/**
+ * Claims of a token whose signature and expiry have been checked.
+ */
+public record VerifiedToken(AuthenticatedUser principal, String email, long issuedAtMillis, long expiresAtMillis) {
+
+    public Long userId() {
+        return principal.userId();
+    }
+
+    public Role role() {
+        return principal.role();
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -6,20 +6,33 @@ import com.lwd.jobportal.dto.jobapplicationdto.RecentApplicationDTO;
 import com.lwd.jobportal.dto.jobdto.RecentJobDTO;
 import com.lwd.jobportal.dto.userdto.RecentUserDTO;
 import com.lwd.jobportal.entity.*;
-import com.lwd.jobportal.enums.JobStatus;
 import com.lwd.jobportal.enums.Role;
 import com.lwd.jobportal.repository.CompanyRepository;
+import com.lwd.jobportal.repository.JobApplicationCounterRepository;
 import com.lwd.jobportal.repository.JobApplicationRepository;
 import com.lwd.jobportal.repository.JobRepository;
 import com.lwd.jobportal.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.sql.Date;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+/**
+ * Admin dashboard served from an in-memory snapshot.
+ *
+ * All KPIs come from a handful of aggregate queries (no entity lists are counted
+ * in memory). The snapshot is refreshed in the background every
+ * {@code lwd.admin.dashboard.refresh-ms} once the dashboard has been requested,
+ * and recomputed inline only when it is older than {@code lwd.admin.dashboard.ttl-ms}.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AdminDashboardService {
@@ -28,30 +41,91 @@ public class AdminDashboardService {
     private final CompanyRepository companyRepository;
     private final JobRepository jobRepository;
     private final JobApplicationRepository applicationRepository;
+    private final JobApplicationCounterRepository applicationCounterRepository;
+
+    @Value("${lwd.admin.dashboard.ttl-ms:120000}")
+    private long ttlMs;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
 
     public AdminDashboardDTO getAdminDashboard() {
-        AdminDashboardDTO dto = new AdminDashboardDTO();
+        Snapshot current = snapshot.get();
 
-        // ---------- KPI CARDS ----------
-        dto.setTotalUsers(userRepository.count());
-        dto.setTotalCompanies(companyRepository.count());
-        dto.setTotalJobs(jobRepository.count());
-        dto.setTotalApplications(applicationRepository.count());
-        dto.setTotalRecruiters(
-                userRepository.countByRole(Role.RECRUITER) +
-                userRepository.countByRole(Role.RECRUITER_ADMIN)
-        );
-        dto.setActiveJobs(jobRepository.countByStatus(JobStatus.OPEN));   // OPEN, not ACTIVE
+        if (current == null || current.isOlderThan(ttlMs)) {
+            current = refresh();
+        }
+        return current.dashboard();
+    }
+
+    @Scheduled(
+            initialDelayString = "${lwd.admin.dashboard.refresh-ms:30000}",
+            fixedDelayString = "${lwd.admin.dashboard.refresh-ms:30000}"
+    )
+    public void refreshInBackground() {
+        // Nothing to keep warm until an admin has opened the dashboard
+        if (snapshot.get() == null) {
+            return;
+        }
+
+        try {
+            refresh();
+        } catch (RuntimeException ex) {
+            log.warn("Admin dashboard refresh failed: {}", ex.getMessage());
+        }
+    }
+
+    private Snapshot refresh() {
+        Snapshot fresh = new Snapshot(buildDashboard(), System.currentTimeMillis());
+        snapshot.set(fresh);
+        return fresh;
+    }
+
+    private AdminDashboardDTO buildDashboard() {
+        AdminDashboardDTO dto = new AdminDashboardDTO();
 
-        // ---------- GROWTH METRICS ----------
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime monthStart = now.minusMonths(1);
-        LocalDateTime weekStart = now.minusWeeks(1);
 
-        dto.setUsersThisMonth(userRepository.countByCreatedAtBetween(monthStart, now));
-        dto.setJobsThisMonth(jobRepository.countByCreatedAtBetween(monthStart, now));
-        dto.setApplicationsThisWeek(applicationRepository.countByAppliedAtBetween(weekStart, now));
-        dto.setNewCompaniesThisMonth(companyRepository.countByCreatedAtBetween(monthStart, now));
+        // ---------- USERS (one grouped query) ----------
+        Map<String, Long> usersByRole = new LinkedHashMap<>();
+        long totalUsers = 0;
+        long usersThisMonth = 0;
+        long recruiters = 0;
+
+        for (Object[] row : userRepository.countUsersByRole(monthStart)) {
+            Role role = (Role) row[0];
+            long count = toLong(row[1]);
+
+            totalUsers += count;
+            usersThisMonth += toLong(row[2]);
+            if (role == Role.RECRUITER || role == Role.RECRUITER_ADMIN) {
+                recruiters += count;
+            }
+            if (role != null && count > 0) {
+                usersByRole.put(role.name(), count);
+            }
+        }
+
+        // ---------- COMPANIES / JOBS / APPLICATIONS ----------
+        Object[] companies = companyRepository.countCompanyTotals(monthStart).get(0);
+        Object[] jobs = jobRepository.countJobTotals(monthStart, now, now.plusDays(7)).get(0);
+        List<DailyApplication> applicationsTrend = getApplicationsTrend(now.minusDays(7));
+
+        // ---------- KPI CARDS ----------
+        dto.setTotalUsers(totalUsers);
+        dto.setTotalCompanies(toLong(companies[0]));
+        dto.setTotalJobs(toLong(jobs[0]));
+        dto.setTotalApplications(applicationCounterRepository.totalApplications());
+        dto.setTotalRecruiters(recruiters);
+        dto.setActiveJobs(toLong(jobs[1]));   // OPEN, not ACTIVE
+
+        // ---------- GROWTH METRICS ----------
+        dto.setUsersThisMonth(usersThisMonth);
+        dto.setJobsThisMonth(toLong(jobs[2]));
+        dto.setApplicationsThisWeek(
+                applicationsTrend.stream().mapToLong(DailyApplication::getCount).sum()
+        );
+        dto.setNewCompaniesThisMonth(toLong(companies[1]));
 
         // ---------- RECENT ACTIVITY ----------
         dto.setRecentUsers(
@@ -72,25 +146,30 @@ public class AdminDashboardService {
 
         // ---------- CHARTS ----------
         dto.setJobsPerIndustry(getJobsPerIndustry());
-        dto.setApplicationsTrend(getApplicationsTrend());
-        dto.setUsersByRole(getUsersByRole());
+        dto.setApplicationsTrend(applicationsTrend);
+        dto.setUsersByRole(usersByRole);
 
         // ---------- SYSTEM HEALTH ----------
-        dto.setActiveRecruiters(
-                userRepository.countByRole(Role.RECRUITER) +
-                userRepository.countByRole(Role.RECRUITER_ADMIN)
-        );
-        dto.setJobsExpiringSoon(
-                jobRepository.findJobsExpiringSoon(now, now.plusDays(7)).size()
-        );
-        dto.setJobsWithoutApplications(
-                jobRepository.findJobsWithoutApplications().size()
-        );
+        dto.setActiveRecruiters(recruiters);
+        dto.setJobsExpiringSoon(toLong(jobs[3]));
+        dto.setJobsWithoutApplications(jobRepository.countJobsWithoutApplications());
         dto.setPendingApprovals(0L);   // adjust if your app has an approval flow
 
         return dto;
     }
 
+    private static long toLong(Object value) {
+        // SUM over an empty table is null
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    private record Snapshot(AdminDashboardDTO dashboard, long computedAt) {
+
+        boolean isOlderThan(long ageMs) {
+            return System.currentTimeMillis() - computedAt > ageMs;
+        }
+    }
+
     // ==================== MAPPING HELPERS ====================
 
     private RecentUserDTO mapToRecentUser(User user) {
@@ -142,22 +221,10 @@ public class AdminDashboardService {
         return map;
     }
 
-    private List<DailyApplication> getApplicationsTrend() {
-        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
+    private List<DailyApplication> getApplicationsTrend(LocalDateTime weekAgo) {
         List<Object[]> results = applicationRepository.countApplicationsPerDay(weekAgo);
         return results.stream()
                 .map(row -> new DailyApplication(((Date) row[0]).toLocalDate(), (Long) row[1]))
                 .collect(Collectors.toList());
     }
-
-    private Map<String, Long> getUsersByRole() {
-        Map<String, Long> map = new LinkedHashMap<>();
-        for (Role role : Role.values()) {
-            long count = userRepository.countByRole(role);
-            if (count > 0) {
-                map.put(role.name(), count);
-            }
-        }
-        return map;
-    }
-}
\ No newline at end of file
+}
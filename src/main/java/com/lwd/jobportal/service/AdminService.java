@@ -26,6 +26,7 @@ import com.lwd.jobportal.exception.ResourceNotFoundException;
 import com.lwd.jobportal.repository.CompanyRepository;
 import com.lwd.jobportal.repository.JobRepository;
 import com.lwd.jobportal.repository.UserRepository;
+import com.lwd.jobportal.search.SearchIndexSync;
 import com.lwd.jobportal.security.SecurityUtils;
 
 import jakarta.transaction.Transactional;
@@ -66,6 +67,12 @@ public class AdminService {
     // Repository for Job database operations
     private final JobRepository jobRepository;
 
+    // Keeps the in-memory search indexes in sync
+    private final SearchIndexSync searchIndexSync;
+
+    // Drops cached job detail responses on change
+    private final JobResponseCache jobResponseCache;
+
     // ============================================================
     // ========================== USERS ============================
     // ============================================================
@@ -319,6 +326,8 @@ public class AdminService {
 
         job.setStatus(JobStatus.CLOSED);
         jobRepository.save(job);
+        searchIndexSync.jobChanged(job);
+        jobResponseCache.invalidate(jobId);
 
         logAction(adminId, "CLOSE_JOB", jobId);
     }
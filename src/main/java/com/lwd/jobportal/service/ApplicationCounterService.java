@@ -0,0 +1,162 @@
+package com.lwd.jobportal.service;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lwd.jobportal.entity.Job;
+import com.lwd.jobportal.enums.ApplicationStatus;
+import com.lwd.jobportal.repository.JobApplicationCounterRepository;
+import com.lwd.jobportal.repository.JobRepository;
+import com.lwd.jobportal.util.KeysetLoader;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains {@code job_application_counters}.
+ *
+ * Increments run inside the caller's transaction, so a counter only moves
+ * together with the application row it describes. A reconciliation at startup
+ * and every {@code lwd.jobs.application-counters.reconcile-ms} compares the
+ * counters with a read-only recount of job_applications, a batch of jobs at a
+ * time, and rewrites only the jobs that drifted, each in its own short
+ * transaction. Live writes to other jobs never wait on it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApplicationCounterService {
+
+    private final JobApplicationCounterRepository counterRepository;
+    private final JobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // ==================================================
+    // WRITES (caller's transaction)
+    // ==================================================
+
+    public void applicationCreated(Job job, ApplicationStatus status) {
+        adjust(job, status, 1);
+    }
+
+    public void statusChanged(Job job, ApplicationStatus oldStatus, ApplicationStatus newStatus) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+        adjust(job, oldStatus, -1);
+        adjust(job, newStatus, 1);
+    }
+
+    private void adjust(Job job, ApplicationStatus status, long delta) {
+        counterRepository.increment(
+                job.getId(),
+                status.name(),
+                job.getCompany().getId(),
+                job.getCreatedBy().getId(),
+                delta
+        );
+    }
+
+    // ==================================================
+    // READS
+    // ==================================================
+
+    public Map<ApplicationStatus, Long> countsByCompany(Long companyId) {
+        return toStatusMap(counterRepository.countsByCompany(companyId));
+    }
+
+    public Map<ApplicationStatus, Long> countsByRecruiter(Long recruiterId) {
+        return toStatusMap(counterRepository.countsByRecruiter(recruiterId));
+    }
+
+    private Map<ApplicationStatus, Long> toStatusMap(List<Object[]> rows) {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        for (Object[] row : rows) {
+            counts.put((ApplicationStatus) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    // ==================================================
+    // RECONCILIATION
+    // ==================================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reconcile();
+    }
+
+    @Scheduled(
+            initialDelayString = "${lwd.jobs.application-counters.reconcile-ms:3600000}",
+            fixedDelayString = "${lwd.jobs.application-counters.reconcile-ms:3600000}"
+    )
+    public void reconcile() {
+        try {
+            int[] repaired = {0};
+
+            long jobs = KeysetLoader.forEachBatch(jobRepository::findIdsAfter, Long::longValue, jobIds -> {
+                for (Long jobId : findDrifted(jobIds)) {
+                    if (recount(jobId)) {
+                        repaired[0]++;
+                    }
+                }
+            });
+            log.info("Application counters reconciled: {} jobs checked, {} repaired", jobs, repaired[0]);
+
+        } catch (RuntimeException ex) {
+            log.warn("Application counter reconciliation failed: {}", ex.getMessage());
+        }
+    }
+
+    // Jobs whose counters differ from a recount; zero-count rows equal missing ones
+    private Set<Long> findDrifted(List<Long> jobIds) {
+        Map<Long, Map<ApplicationStatus, Long>> expected = byJob(counterRepository.countApplicationsForJobs(jobIds));
+        Map<Long, Map<ApplicationStatus, Long>> actual = byJob(counterRepository.countsForJobs(jobIds));
+
+        Set<Long> drifted = new HashSet<>();
+        for (Long jobId : jobIds) {
+            if (!expected.getOrDefault(jobId, Map.of()).equals(actual.getOrDefault(jobId, Map.of()))) {
+                drifted.add(jobId);
+            }
+        }
+        return drifted;
+    }
+
+    // [jobId, status, count] -> non-zero counts per job
+    private Map<Long, Map<ApplicationStatus, Long>> byJob(List<Object[]> rows) {
+        Map<Long, Map<ApplicationStatus, Long>> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            long count = ((Number) row[2]).longValue();
+            if (count != 0) {
+                counts.computeIfAbsent((Long) row[0], id -> new EnumMap<>(ApplicationStatus.class))
+                        .put((ApplicationStatus) row[1], count);
+            }
+        }
+        return counts;
+    }
+
+    // Locks only this job's counter rows; a failure (e.g. a deadlock with a live apply) waits for the next run
+    private boolean recount(Long jobId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                counterRepository.deleteCountersForJob(jobId);
+                counterRepository.rebuildCountersForJob(jobId);
+            });
+            return true;
+
+        } catch (RuntimeException ex) {
+            log.warn("Application counters for job {} not reconciled: {}", jobId, ex.getMessage());
+            return false;
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.lwd.jobportal.service;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 import org.springframework.data.domain.Pageable;
 
+import com.lwd.jobportal.dto.comman.CountMode;
 import com.lwd.jobportal.dto.companydto.CompanyAnalyticsDTO;
 import com.lwd.jobportal.dto.companydto.CompanyResponse;
 import com.lwd.jobportal.dto.companydto.CreateCompanyRequest;
@@ -12,6 +16,9 @@ public interface CompanyService {
     CompanyResponse createCompany(CreateCompanyRequest request);
 
     CompanyResponse getCompanyById(Long companyId);
+
+    // updatedAt only, for conditional GETs; served from the entity cache
+    Optional<LocalDateTime> findLastModified(Long companyId);
     
     CompanyAnalyticsDTO getAnalytics(Long companyId);
 
@@ -28,5 +35,5 @@ public interface CompanyService {
     // ✅ Updated with Pageable + industry parameter
     PagedCompanyResponse getCompanyByIndustry(String industry, Pageable pageable);
 
-	PagedCompanyResponse searchCompanies(String keyword, int page, int size);
+	PagedCompanyResponse searchCompanies(String keyword, int page, int size, CountMode countMode);
 }
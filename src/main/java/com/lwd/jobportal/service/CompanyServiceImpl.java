@@ -1,6 +1,8 @@
 package com.lwd.jobportal.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -10,6 +12,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.lwd.jobportal.dto.comman.CountMode;
+import com.lwd.jobportal.dto.comman.PaginationUtil;
 import com.lwd.jobportal.dto.companydto.CompanyAnalyticsDTO;
 import com.lwd.jobportal.dto.companydto.CompanyResponse;
 import com.lwd.jobportal.dto.companydto.CreateCompanyRequest;
@@ -22,6 +26,7 @@ import com.lwd.jobportal.exception.InvalidOperationException;
 import com.lwd.jobportal.exception.ResourceNotFoundException;
 import com.lwd.jobportal.repository.CompanyRepository;
 import com.lwd.jobportal.repository.UserRepository;
+import com.lwd.jobportal.search.SearchIndexSync;
 import com.lwd.jobportal.security.SecurityUtils;
 
 import lombok.RequiredArgsConstructor;
@@ -58,6 +63,15 @@ public class CompanyServiceImpl implements CompanyService {
     // Repository for User operations (used for recruiter-company mapping)
     private final UserRepository userRepository;
 
+    // Keeps the in-memory search indexes in sync
+    private final SearchIndexSync searchIndexSync;
+
+    // Drops cached job detail responses when the company is renamed
+    private final JobResponseCache jobResponseCache;
+
+    // Skips or reuses COUNT queries for countMode other than EXACT
+    private final PageCounter pageCounter;
+
     // ============================================================
     // ======================= CREATE COMPANY =====================
     // ============================================================
@@ -97,7 +111,10 @@ public class CompanyServiceImpl implements CompanyService {
                 .isActive(true) // Default active on creation
                 .build();
 
-        return mapToResponse(companyRepository.save(company));
+        Company savedCompany = companyRepository.save(company);
+        searchIndexSync.companyChanged(savedCompany);
+
+        return mapToResponse(savedCompany);
     }
 
     // ============================================================
@@ -223,7 +240,11 @@ public class CompanyServiceImpl implements CompanyService {
         company.setLocation(request.getLocation());
         company.setLogoUrl(request.getLogoUrl());
 
-        return mapToResponse(companyRepository.save(company));
+        Company savedCompany = companyRepository.save(company);
+        searchIndexSync.companyChanged(savedCompany);
+        jobResponseCache.invalidateCompany(companyId);
+
+        return mapToResponse(savedCompany);
     }
 
     // ============================================================
@@ -251,6 +272,7 @@ public class CompanyServiceImpl implements CompanyService {
         if (SecurityUtils.hasRole(Role.ADMIN)) {
             company.setIsActive(false);
             companyRepository.save(company);
+            searchIndexSync.companyChanged(company);
             return;
         }
 
@@ -263,6 +285,7 @@ public class CompanyServiceImpl implements CompanyService {
             }
             company.setIsActive(false);
             companyRepository.save(company);
+            searchIndexSync.companyChanged(company);
             return;
         }
 
@@ -287,6 +310,13 @@ public class CompanyServiceImpl implements CompanyService {
 
         return mapToResponse(company);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findLastModified(Long companyId) {
+        return companyRepository.findById(companyId)
+                .map(Company::getUpdatedAt);
+    }
     
     
     public CompanyAnalyticsDTO getAnalytics(Long companyId) {
@@ -353,13 +383,15 @@ public class CompanyServiceImpl implements CompanyService {
     public PagedCompanyResponse searchCompanies(
             String keyword,
             int page,
-            int size
+            int size,
+            CountMode countMode
     ) {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
 
-        Page<Company> companyPage =
-                companyRepository.searchCompanies(keyword, pageable);
+        Page<Company> companyPage = pageCounter.find(countMode, "companies:search:" + keyword, pageable,
+                p -> companyRepository.searchCompanies(keyword, p),
+                p -> companyRepository.searchCompaniesSlice(keyword, p));
 
         List<CompanyResponse> companies =
                 companyPage.getContent()
@@ -373,7 +405,8 @@ public class CompanyServiceImpl implements CompanyService {
                 companyPage.getSize(),
                 companyPage.getTotalElements(),
                 companyPage.getTotalPages(),
-                companyPage.isLast()
+                companyPage.isLast(),
+                PaginationUtil.isTotalExact(companyPage, countMode)
         );
     }
 
@@ -0,0 +1,74 @@
+package com.lwd.jobportal.service;
+
+import java.util.Optional;
+
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.stereotype.Service;
+
+import com.lwd.jobportal.entity.User;
+import com.lwd.jobportal.enums.Role;
+import com.lwd.jobportal.repository.CompanyRepository;
+import com.lwd.jobportal.security.AuthenticatedUser;
+import com.lwd.jobportal.security.CompanyClaimInvalidations;
+import com.lwd.jobportal.security.SecurityUtils;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resolves a caller's company id, preferring the {@code companyId} token claim.
+ *
+ * RECRUITER_ADMIN owns the company they created; RECRUITER belongs to the
+ * company assigned on approval. The claim is only trusted for the caller's own id
+ * and is dropped by the JWT filter once ownership or assignment has changed,
+ * in which case a single id lookup is made.
+ */
+@Service
+@RequiredArgsConstructor
+public class CurrentCompanyService {
+
+    private final CompanyRepository companyRepository;
+    private final CompanyClaimInvalidations companyClaimInvalidations;
+
+    /**
+     * Company created by the given RECRUITER_ADMIN.
+     */
+    public Optional<Long> findOwnedCompanyId(Long userId) {
+        Long claimed = claimedCompanyId(userId, Role.RECRUITER_ADMIN);
+        return claimed != null ? Optional.of(claimed) : companyRepository.findIdByCreatedById(userId);
+    }
+
+    /**
+     * Value of the companyId claim for a token issued to this user.
+     */
+    public Long resolveForToken(User user) {
+        return switch (user.getRole()) {
+            case RECRUITER_ADMIN -> ownedCompanyIdOrNull(user.getId());
+            case RECRUITER -> user.getCompany() != null ? user.getCompany().getId() : null;
+            default -> null;
+        };
+    }
+
+    /**
+     * Call after a user's company ownership or assignment changed.
+     */
+    public void companyChanged(Long userId) {
+        companyClaimInvalidations.companyChanged(userId);
+    }
+
+    private Long ownedCompanyIdOrNull(Long userId) {
+        try {
+            return companyRepository.findIdByCreatedById(userId).orElse(null);
+        } catch (IncorrectResultSizeDataAccessException ex) {
+            // Several companies: no single claim, let each request resolve it
+            return null;
+        }
+    }
+
+    private Long claimedCompanyId(Long userId, Role role) {
+        return SecurityUtils.findCurrentUser()
+                .filter(user -> user.userId().equals(userId))
+                .filter(user -> user.role() == role)
+                .map(AuthenticatedUser::companyId)
+                .orElse(null);
+    }
+}
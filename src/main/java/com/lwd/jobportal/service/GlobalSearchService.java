@@ -1,11 +1,22 @@
 package com.lwd.jobportal.service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import com.lwd.jobportal.dto.search.CompanySearchDTO;
@@ -14,16 +25,17 @@ import com.lwd.jobportal.dto.search.JobSearchDTO;
 import com.lwd.jobportal.dto.search.SearchSuggestionDTO;
 import com.lwd.jobportal.dto.search.SkillDTO;
 import com.lwd.jobportal.dto.search.UserSearchDTO;
-import com.lwd.jobportal.entity.Company;
-import com.lwd.jobportal.entity.Job;
-import com.lwd.jobportal.entity.Skill;
-import com.lwd.jobportal.entity.User;
 import com.lwd.jobportal.repository.CompanyRepository;
 import com.lwd.jobportal.repository.JobRepository;
 import com.lwd.jobportal.repository.SkillRepository;
 import com.lwd.jobportal.repository.UserRepository;
+import com.lwd.jobportal.search.SearchBackend;
+import com.lwd.jobportal.search.SuggestionIndex;
+import com.lwd.jobportal.search.SuggestionType;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class GlobalSearchService {
@@ -32,95 +44,110 @@ public class GlobalSearchService {
     private final CompanyRepository companyRepository;
     private final UserRepository userRepository;
     private final SkillRepository skillRepository;
+    private final SkillDictionary skillDictionary;
+    private final SearchBackend searchBackend;
+    private final SuggestionIndex suggestionIndex;
+    private final ThreadPoolTaskExecutor searchExecutor;
+
+    @Value("${lwd.search.fanout.category-timeout-ms:800}")
+    private long categoryTimeoutMs;
 
-    public GlobalSearchResponse globalSearch(String keyword, String category, Pageable pageable) {
+    public GlobalSearchResponse globalSearch(
+            String keyword,
+            String category,
+            Pageable pageable,
+            boolean includeCounts
+    ) {
 
         if (keyword == null || keyword.trim().isEmpty()) {
 
             return switch (category.toLowerCase()) {
 
-                case "jobs" -> {
-                    Page<Job> page = jobRepository.findAll(pageable);
-                    System.out.println("All Jobs");
-                    yield GlobalSearchResponse.builder()
-                            .jobs(page.stream().map(this::mapJob).toList())
-                            .totalPages(page.getTotalPages())
-                            .totalElements(page.getTotalElements())
-                            .build();
-                }
-
-                case "companies" -> {
-                    Page<Company> page = companyRepository.findAll(pageable);
-                    System.out.println("All Companies"); 
-                    yield GlobalSearchResponse.builder()
-                            .companies(page.stream().map(this::mapCompany).toList())
-                            .totalPages(page.getTotalPages())
-                            .totalElements(page.getTotalElements())
-                            .build();
-                }
-
-                case "candidates" -> {
-                    Page<User> page = userRepository.findJobSeekers(pageable);
-                    System.out.println("All Candidates"); 
-                    yield GlobalSearchResponse.builder()
-                            .candidates(page.stream().map(this::mapUser).toList())
-                            .totalPages(page.getTotalPages())
-                            .totalElements(page.getTotalElements())
-                            .build();
-                }
-
-                case "recruiters" -> {
-                    Page<User> page = userRepository.findRecruiters(pageable);
-                    System.out.println("All Recruiters");
-                    yield GlobalSearchResponse.builder()
-                            .recruiters(page.stream().map(this::mapUser).toList())
-                            .totalPages(page.getTotalPages())
-                            .totalElements(page.getTotalElements())
-                            .build();
-                }
-
-                case "skills" -> {
-                    Page<Skill> page = skillRepository.findAll(pageable);
-                    System.out.println("All skills");
-                    yield GlobalSearchResponse.builder()
-                            .skills(page.stream().map(this::mapSkill).toList())
-                            .totalPages(page.getTotalPages())
-                            .totalElements(page.getTotalElements())
-                            .build();
-                }
+                case "jobs" -> searchJobs(null, pageable);
+
+                case "companies" -> searchCompanies(null, pageable);
+
+                case "candidates" -> searchCandidates(null, pageable);
+
+                case "recruiters" -> searchRecruiters(null, pageable);
+
+                case "skills" -> searchSkills(null, pageable);
 
                 default -> new GlobalSearchResponse();
             };
         }
 
-        // SEARCH MODE
-
-        Page<Job> jobs = jobRepository.searchJobs(keyword, pageable);
-        Page<Company> companies = companyRepository.searchCompanies(keyword, pageable);
-        Page<User> candidates = userRepository.searchJobSeekers(keyword, pageable);
-        Page<User> recruiters = userRepository.searchRecruiters(keyword, pageable);
-        Page<Skill> skills = skillRepository.searchSkills(keyword, pageable);
+        // SEARCH MODE: categories run concurrently, each within the time budget
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(categoryTimeoutMs);
+
+        CompletableFuture<Page<JobSearchDTO>> jobsFuture =
+                submit(() -> searchBackend.searchJobs(keyword, pageable, includeCounts));
+        CompletableFuture<Page<CompanySearchDTO>> companiesFuture =
+                submit(() -> searchBackend.searchCompanies(keyword, pageable, includeCounts));
+        CompletableFuture<Page<UserSearchDTO>> candidatesFuture =
+                submit(() -> searchBackend.searchCandidates(keyword, pageable, includeCounts));
+        CompletableFuture<Page<UserSearchDTO>> recruitersFuture =
+                submit(() -> searchBackend.searchRecruiters(keyword, pageable, includeCounts));
+        CompletableFuture<Page<SkillDTO>> skillsFuture =
+                submit(() -> searchBackend.searchSkills(keyword, pageable, includeCounts));
+
+        List<String> timedOut = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+
+        Page<JobSearchDTO> jobs = await("jobs", jobsFuture, deadline, pageable, timedOut, failed);
+        Page<CompanySearchDTO> companies = await("companies", companiesFuture, deadline, pageable, timedOut, failed);
+        Page<UserSearchDTO> candidates = await("candidates", candidatesFuture, deadline, pageable, timedOut, failed);
+        Page<UserSearchDTO> recruiters = await("recruiters", recruitersFuture, deadline, pageable, timedOut, failed);
+        Page<SkillDTO> skills = await("skills", skillsFuture, deadline, pageable, timedOut, failed);
+
+        Map<String, Long> categoryTotals = new LinkedHashMap<>();
+        categoryTotals.put("jobs", jobs.getTotalElements());
+        categoryTotals.put("companies", companies.getTotalElements());
+        categoryTotals.put("candidates", candidates.getTotalElements());
+        categoryTotals.put("recruiters", recruiters.getTotalElements());
+        categoryTotals.put("skills", skills.getTotalElements());
+
+        // Paging runs until the largest category is exhausted
+        int totalPages = Stream.of(jobs, companies, candidates, recruiters, skills)
+                .mapToInt(Page::getTotalPages)
+                .max()
+                .orElse(0);
 
         return GlobalSearchResponse.builder()
-                .jobs(jobs.stream().map(this::mapJob).toList())
-                .companies(companies.stream().map(this::mapCompany).toList())
-                .candidates(candidates.stream().map(this::mapUser).toList())
-                .recruiters(recruiters.stream().map(this::mapUser).toList())
-                .skills(skills.stream().map(this::mapSkill).toList())
-                .totalPages(jobs.getTotalPages()) // same pageable
-                .totalElements(jobs.getTotalElements())
+                .jobs(jobs.getContent())
+                .companies(companies.getContent())
+                .candidates(candidates.getContent())
+                .recruiters(recruiters.getContent())
+                .skills(skills.getContent())
+                .totalPages(totalPages)
+                .totalElements(categoryTotals.values().stream().mapToLong(Long::longValue).sum())
+                .categoryTotals(categoryTotals)
+                .exactCounts(includeCounts)
+                .timedOutCategories(timedOut)
+                .failedCategories(failed)
                 .build();
     }
     
     
     public GlobalSearchResponse searchJobs(String keyword, Pageable pageable) {
 
-        Page<Job> page = keyword == null || keyword.trim().isEmpty()
-                ? jobRepository.findAll(pageable)
-                : jobRepository.searchJobs(keyword, pageable);
+        Page<JobSearchDTO> page = searchBackend.searchJobs(keyword, pageable, true);
+
+        return GlobalSearchResponse.builder()
+                .jobs(page.getContent())
+                .totalPages(page.getTotalPages())
+                .totalElements(page.getTotalElements())
+                .build();
+    }
+
+
+    public GlobalSearchResponse searchCompanies(String keyword, Pageable pageable) {
+
+        Page<CompanySearchDTO> page = searchBackend.searchCompanies(keyword, pageable, true);
 
         return GlobalSearchResponse.builder()
-                .jobs(page.stream().map(this::mapJob).toList())
+                .companies(page.getContent())
                 .totalPages(page.getTotalPages())
                 .totalElements(page.getTotalElements())
                 .build();
@@ -129,12 +156,10 @@ public class GlobalSearchService {
     
     public GlobalSearchResponse searchCandidates(String keyword, Pageable pageable) {
 
-        Page<User> page = keyword == null || keyword.trim().isEmpty()
-                ? userRepository.findJobSeekers(pageable)
-                : userRepository.searchJobSeekers(keyword, pageable);
+        Page<UserSearchDTO> page = searchBackend.searchCandidates(keyword, pageable, true);
 
         return GlobalSearchResponse.builder()
-                .candidates(page.stream().map(this::mapUser).toList())
+                .candidates(page.getContent())
                 .totalPages(page.getTotalPages())
                 .totalElements(page.getTotalElements())
                 .build();
@@ -143,12 +168,10 @@ public class GlobalSearchService {
     
     public GlobalSearchResponse searchRecruiters(String keyword, Pageable pageable) {
 
-        Page<User> page = keyword == null || keyword.trim().isEmpty()
-                ? userRepository.findRecruiters(pageable)
-                : userRepository.searchRecruiters(keyword, pageable);
+        Page<UserSearchDTO> page = searchBackend.searchRecruiters(keyword, pageable, true);
 
         return GlobalSearchResponse.builder()
-                .recruiters(page.stream().map(this::mapUser).toList())
+                .recruiters(page.getContent())
                 .totalPages(page.getTotalPages())
                 .totalElements(page.getTotalElements())
                 .build();
@@ -157,12 +180,10 @@ public class GlobalSearchService {
     
     public GlobalSearchResponse searchSkills(String keyword, Pageable pageable) {
 
-        Page<Skill> page = keyword == null || keyword.trim().isEmpty()
-                ? skillRepository.findAll(pageable)
-                : skillRepository.searchSkills(keyword, pageable);
+        Page<SkillDTO> page = searchBackend.searchSkills(keyword, pageable, true);
 
         return GlobalSearchResponse.builder()
-                .skills(page.stream().map(this::mapSkill).toList())
+                .skills(page.getContent())
                 .totalPages(page.getTotalPages())
                 .totalElements(page.getTotalElements())
                 .build();
@@ -173,6 +194,22 @@ public class GlobalSearchService {
     
     public List<SearchSuggestionDTO> globalSearchSuggestions(String keyword) {
 
+        // Served from memory once the suggestion index is built
+        if (suggestionIndex.isReady()) {
+            List<SearchSuggestionDTO> suggestions = new ArrayList<>();
+
+            for (SuggestionType type : SuggestionType.ENTITIES) {
+                suggestionIndex.suggest(keyword, List.of(type), 3, 10)
+                        .forEach(s -> suggestions.add(
+                                new SearchSuggestionDTO(s.getId(), s.getLabel(), type.name())
+                        ));
+            }
+
+            return suggestions.stream()
+                    .limit(10)
+                    .toList();
+        }
+
         Pageable limit = PageRequest.of(0, 3);
 
         List<SearchSuggestionDTO> suggestions = new ArrayList<>();
@@ -198,8 +235,13 @@ public class GlobalSearchService {
                 ));
 
         // Skill suggestions
-        skillRepository.searchSkillSuggestions(keyword, limit)
-                .forEach(skill -> suggestions.add(
+        List<SkillDTO> skills = skillDictionary.isReady()
+                ? skillDictionary.suggest(keyword, limit.getPageSize())
+                : skillRepository.searchSkillSuggestions(keyword, limit).stream()
+                        .map(skill -> new SkillDTO(skill.getId(), skill.getName()))
+                        .toList();
+
+        skills.forEach(skill -> suggestions.add(
                         new SearchSuggestionDTO(
                                 skill.getId(),
                                 skill.getName(),
@@ -233,47 +275,49 @@ public class GlobalSearchService {
     }
 
 
+    // ================= FAN-OUT HELPERS =================
 
-
-
-    
-    
-    private JobSearchDTO mapJob(Job job) {
-        return JobSearchDTO.builder()
-                .id(job.getId())
-                .title(job.getTitle())
-                .location(job.getLocation())
-                .industry(job.getIndustry())
-                .companyName(job.getCompany().getCompanyName())
-                .jobType(job.getJobType().name())
-                .build();
-    }
-
-    private CompanySearchDTO mapCompany(Company company) {
-        return CompanySearchDTO.builder()
-                .id(company.getId())
-                .companyName(company.getCompanyName())
-                .location(company.getLocation())
-                .industry(company.getIndustry())
-                .build();
-    }
-
-    private UserSearchDTO mapUser(User user) {
-        return UserSearchDTO.builder()
-                .id(user.getId())
-                .name(user.getName())
-                .email(user.getEmail())
-                .phone(user.getPhone())
-                .companyName(
-                        user.getCompany() != null
-                                ? user.getCompany().getCompanyName()
-                                : null
-                )
-                .build();
+    private <T> CompletableFuture<Page<T>> submit(Supplier<Page<T>> search) {
+        try {
+            return CompletableFuture.supplyAsync(search, searchExecutor);
+        } catch (RejectedExecutionException ex) {
+            // Pool saturated: skip the category rather than run it on the request thread
+            return CompletableFuture.failedFuture(ex);
+        }
     }
 
-    private SkillDTO mapSkill(Skill skill) {
-        return new SkillDTO(skill.getId(), skill.getName());
+    private <T> Page<T> await(
+            String category,
+            CompletableFuture<Page<T>> future,
+            long deadline,
+            Pageable pageable,
+            List<String> timedOut,
+            List<String> failed
+    ) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+        } catch (TimeoutException ex) {
+            // Does not interrupt a running JDBC call; the query timeout on
+            // JpaSearchBackend bounds that instead
+            future.cancel(true);
+            timedOut.add(category);
+            return Page.empty(pageable);
+
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            timedOut.add(category);
+            return Page.empty(pageable);
+
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RejectedExecutionException) {
+                timedOut.add(category);
+                return Page.empty(pageable);
+            }
+            // One failing category (e.g. a query timeout) must not fail the others
+            log.warn("Global search failed for category {}: {}", category, ex.getCause().toString());
+            failed.add(category);
+            return Page.empty(pageable);
+        }
     }
 }
-
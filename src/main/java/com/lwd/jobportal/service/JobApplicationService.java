@@ -32,6 +32,8 @@ public class JobApplicationService {
     private final UserRepository userRepository;
     private final CompanyRepository companyRepository;
     private final JobSeekerRepository jobSeekerRepository;
+    private final ApplicationCounterService applicationCounterService;
+    private final CurrentCompanyService currentCompanyService;
 
     
     public String applyForJob(JobApplicationRequest request, Long userId) {
@@ -80,6 +82,7 @@ public class JobApplicationService {
                     .build();
 
             jobApplicationRepository.save(application);
+            applicationCounterService.applicationCreated(job, application.getStatus());
 
             return job.getExternalApplicationUrl();
         }
@@ -102,6 +105,7 @@ public class JobApplicationService {
                 .build();
 
         jobApplicationRepository.save(application);
+        applicationCounterService.applicationCreated(job, application.getStatus());
 
         return "Application submitted successfully";
     }
@@ -133,12 +137,12 @@ public class JobApplicationService {
         // ================= RECRUITER_ADMIN =================
         else if (role == Role.RECRUITER_ADMIN) {
 
-            Company company = companyRepository.findByCreatedById(userId)
+            Long companyId = currentCompanyService.findOwnedCompanyId(userId)
                     .orElseThrow(() ->
                             new ResourceNotFoundException("Company not found for recruiter admin"));
 
             applications = jobApplicationRepository
-                    .findByJobCompanyId(company.getId(), pageable);
+                    .findByJobCompanyId(companyId, pageable);
         }
 
         // ================= RECRUITER =================
@@ -182,17 +186,21 @@ public class JobApplicationService {
 
         JobApplication application = jobApplicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
+        ApplicationStatus oldStatus = application.getStatus();
+
         // ADMIN → allow directly
         if (role == Role.ADMIN) {
             application.setStatus(newStatus);
             application.setUpdatedBy(userId); 
             jobApplicationRepository.save(application);
+            applicationCounterService.statusChanged(application.getJob(), oldStatus, newStatus);
             return;
         }
 
         application.setStatus(newStatus);
         application.setUpdatedBy(userId); // 🔹 who updated
         jobApplicationRepository.save(application);
+        applicationCounterService.statusChanged(application.getJob(), oldStatus, newStatus);
     }
     
     // ================= JOB SEEKER: MY APPLICATIONS =================
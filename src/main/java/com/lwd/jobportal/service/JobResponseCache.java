@@ -0,0 +1,158 @@
+package com.lwd.jobportal.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lwd.jobportal.dto.jobdto.JobResponse;
+import com.lwd.jobportal.util.TransactionHooks;
+
+/**
+ * Bounded Caffeine cache of mapped job detail responses for {@code GET /api/jobs/{jobId}}.
+ *
+ * Every entry carries a version stamp. Edits on this node replace the entry with
+ * a newer tombstone after commit, so a response loaded before the edit can never
+ * be put back. The application count is refreshed on its own short TTL
+ * ({@code lwd.jobs.response-cache.count-ttl-ms}); the same refresh reads the job's
+ * {@code @Version} and its company's updatedAt, and reloads the body when either
+ * moved, so edits made on other nodes show within that TTL. Hits in between make
+ * no database round-trip. The body also expires after
+ * {@code lwd.jobs.response-cache.ttl-ms}.
+ */
+@Component
+public class JobResponseCache {
+
+    private final ConcurrentMap<Long, Entry> entries;
+    private final AtomicLong versions = new AtomicLong();
+    private final long ttlMillis;
+    private final long countTtlMillis;
+
+    public JobResponseCache(
+            @Value("${lwd.jobs.response-cache.max-size:2000}") int maxSize,
+            @Value("${lwd.jobs.response-cache.ttl-ms:300000}") long ttlMillis,
+            @Value("${lwd.jobs.response-cache.count-ttl-ms:30000}") long countTtlMillis
+    ) {
+        this.ttlMillis = ttlMillis;
+        this.countTtlMillis = countTtlMillis;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .<Long, Entry>build()
+                .asMap();
+    }
+
+    // ==================================================
+    // READ
+    // ==================================================
+
+    /**
+     * Cached response with a fresh enough application count.
+     *
+     * @param loader          maps the job without its application count; throws when not found
+     * @param countLoader     total applications of the job
+     * @param revisionLoader  current revision of the job, null when it is gone
+     */
+    public JobResponse get(
+            Long jobId,
+            Function<Long, JobResponse> loader,
+            Function<Long, Long> countLoader,
+            Function<Long, Revision> revisionLoader
+    ) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(jobId);
+
+        if (entry != null && !entry.isTombstone() && now - entry.loadedAt() <= ttlMillis
+                && now - entry.countedAt() > countTtlMillis
+                && !Revision.of(entry.body()).equals(revisionLoader.apply(jobId))) {
+            // Edited on another node since it was cached
+            entry = null;
+        }
+
+        if (entry == null || entry.isTombstone() || now - entry.loadedAt() > ttlMillis) {
+            // Stamp taken before loading; a concurrent edit makes it stale
+            long version = versions.get();
+            JobResponse body = loader.apply(jobId);
+            entry = new Entry(body, version, now, countLoader.apply(jobId), now);
+            store(jobId, entry);
+
+        } else if (now - entry.countedAt() > countTtlMillis) {
+            Entry recounted = entry.withApplications(countLoader.apply(jobId), now);
+            entries.replace(jobId, entry, recounted);
+            entry = recounted;
+        }
+
+        // Callers get their own copy; the cached body is never handed out
+        return entry.body().toBuilder()
+                .totalApplications(entry.applications())
+                .build();
+    }
+
+    // ==================================================
+    // INVALIDATION (applied after commit)
+    // ==================================================
+
+    public void invalidate(Long jobId) {
+        TransactionHooks.afterCommit(() -> entries.put(jobId, Entry.tombstone(versions.incrementAndGet())));
+    }
+
+    /**
+     * Company name or logo changed; drops that company's jobs.
+     */
+    public void invalidateCompany(Long companyId) {
+        TransactionHooks.afterCommit(() -> {
+            long version = versions.incrementAndGet();
+            entries.replaceAll((jobId, entry) ->
+                    !entry.isTombstone()
+                            && entry.body().getCompany() != null
+                            && companyId.equals(entry.body().getCompany().getId())
+                            ? Entry.tombstone(version)
+                            : entry);
+        });
+    }
+
+    // ==================================================
+    // INTERNAL
+    // ==================================================
+
+    // Atomic per key: an entry never replaces a newer one (or a newer tombstone)
+    private void store(Long jobId, Entry entry) {
+        entries.merge(jobId, entry, (current, loaded) ->
+                current.version() <= loaded.version() ? loaded : current);
+    }
+
+    /**
+     * What a cached body was mapped from: the job's version and its company's last update.
+     */
+    public record Revision(Long jobVersion, LocalDateTime companyUpdatedAt) {
+
+        // Whole seconds: the column may hold fewer fractional digits than a cached entity
+        public Revision {
+            companyUpdatedAt = companyUpdatedAt != null ? companyUpdatedAt.truncatedTo(ChronoUnit.SECONDS) : null;
+        }
+
+        static Revision of(JobResponse body) {
+            return new Revision(body.getVersion(),
+                    body.getCompany() != null ? body.getCompany().getUpdatedAt() : null);
+        }
+    }
+
+    private record Entry(JobResponse body, long version, long loadedAt, long applications, long countedAt) {
+
+        static Entry tombstone(long version) {
+            return new Entry(null, version, 0L, 0L, 0L);
+        }
+
+        boolean isTombstone() {
+            return body == null;
+        }
+
+        Entry withApplications(long count, long now) {
+            return new Entry(body, version, loadedAt, count, now);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import com.lwd.jobportal.dto.jobseekerdto.JobSeekerSearchResponse;
 import com.lwd.jobportal.dto.jobseekerdto.ProfileCompletionDTO;
 import com.lwd.jobportal.dto.jobseekerdto.SkillResponseDTO;
 import com.lwd.jobportal.dto.jobseekerdto.SocialLinksDTO;
+import com.lwd.jobportal.dto.search.SkillDTO;
 import com.lwd.jobportal.entity.JobSeeker;
 import com.lwd.jobportal.entity.Skill;
 import com.lwd.jobportal.entity.User;
@@ -25,6 +26,11 @@ import com.lwd.jobportal.repository.JobSeekerProjectRepository;
 import com.lwd.jobportal.repository.JobSeekerRepository;
 import com.lwd.jobportal.repository.SkillRepository;
 import com.lwd.jobportal.repository.UserRepository;
+import com.lwd.jobportal.search.CandidateFilter;
+import com.lwd.jobportal.search.CandidateIndex;
+import com.lwd.jobportal.search.CandidateSort;
+import com.lwd.jobportal.search.SearchIndexSync;
+import com.lwd.jobportal.search.SkillNames;
 import com.lwd.jobportal.security.SecurityUtils;
 import com.lwd.jobportal.specification.JobSeekerSpecification;
 
@@ -40,11 +46,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -60,6 +70,11 @@ public class JobSeekerService {
     private final JobSeekerInternshipRepository internshipRepository;
     private final JobSeekerCertificationRepository certificationRepository;
     private final JobSeekerProjectRepository projectRepository;
+    private final SearchIndexSync searchIndexSync;
+    private final PageCounter pageCounter;
+    private final SkillService skillService;
+    private final SkillDictionary skillDictionary;
+    private final CandidateIndex candidateIndex;
     
 
 
@@ -100,6 +115,7 @@ public class JobSeekerService {
         }
 
         JobSeeker saved = jobSeekerRepository.save(jobSeeker);
+        searchIndexSync.jobSeekerChanged(saved);
 
         return mapToDTO(saved);
     }
@@ -129,6 +145,7 @@ public class JobSeekerService {
             jobSeeker.setUser(user);
 
             jobSeeker = jobSeekerRepository.save(jobSeeker);
+            searchIndexSync.jobSeekerChanged(jobSeeker);
         }
 
         return mapToDTO(jobSeeker);
@@ -136,6 +153,36 @@ public class JobSeekerService {
     
     
     
+    // =====================================================
+    // PROFILE LAST MODIFIED (conditional GET)
+    // =====================================================
+    /**
+     * Latest change to the profile or its user's name/email; empty until the
+     * profile exists.
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findProfileLastModified(Long userId) {
+        return jobSeekerRepository.findProfileTimestamps(userId).stream()
+                .findFirst()
+                .map(row -> latest((LocalDateTime) row[0], (LocalDateTime) row[1]));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findMyProfileLastModified() {
+        if (!SecurityUtils.hasRole(Role.JOB_SEEKER)) {
+            throw new AccessDeniedException("Only Job Seekers can access profile");
+        }
+        return findProfileLastModified(SecurityUtils.getUserId());
+    }
+
+    private LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null || b == null) {
+            return a == null ? b : a;
+        }
+        return a.isAfter(b) ? a : b;
+    }
+
+
     // =====================================================
     // GET PROFILE BY ID
     // =====================================================
@@ -153,6 +200,7 @@ public class JobSeekerService {
             jobSeeker.setUser(user);
 
             jobSeeker = jobSeekerRepository.save(jobSeeker);
+            searchIndexSync.jobSeekerChanged(jobSeeker);
         }
 
         return mapToDTO(jobSeeker);
@@ -170,64 +218,14 @@ public class JobSeekerService {
     	            .findByUserId(userId)   // ✅ correct method
     	            .orElseThrow(() -> new RuntimeException("Profile not found"));
 
-        // Clear skills if empty
-        if (skillNames == null || skillNames.isEmpty()) {
-            jobSeeker.getSkills().clear();
-            return;
-        }
+        // Clears the skills when the list is empty
+        Set<Skill> skills = skillService.resolveSkills(skillNames);
 
-        // =====================================================
-        // 1️⃣ Normalize + Remove duplicates
-        // =====================================================
-        Set<String> normalizedNames = skillNames.stream()
-                .filter(Objects::nonNull)
-                .map(name -> name.trim().toLowerCase())
-                .filter(name -> !name.isBlank())
-                .collect(Collectors.toSet());
-
-        // =====================================================
-        // 2️⃣ Fetch existing skills (ONE QUERY)
-        // =====================================================
-        List<Skill> existingSkills =
-                skillRepository.findExistingSkills(normalizedNames);
-
-        Map<String, Skill> existingMap = existingSkills.stream()
-                .collect(Collectors.toMap(
-                        skill -> skill.getName().toLowerCase(),
-                        skill -> skill
-                ));
-
-        // =====================================================
-        // 3️⃣ Create missing skills (Batch insert)
-        // =====================================================
-        List<Skill> newSkills = new ArrayList<>();
-
-        for (String name : normalizedNames) {
-            if (!existingMap.containsKey(name)) {
-                newSkills.add(
-                        Skill.builder()
-                                .name(name)
-                                .build()
-                );
-            }
-        }
-
-        if (!newSkills.isEmpty()) {
-            try {
-                skillRepository.saveAll(newSkills);
-                existingSkills.addAll(newSkills);
-            } catch (Exception e) {
-                // ⚠ In case of race condition (two users insert same skill)
-                // Fetch again safely
-                existingSkills = skillRepository.findExistingSkills(normalizedNames);
-            }
-        }
-
-        // =====================================================
-        // 4️⃣ Attach unique skills
-        // =====================================================
         jobSeeker.getSkills().clear();
-        jobSeeker.getSkills().addAll(existingSkills);
+        jobSeeker.getSkills().addAll(skills);
+
+        // Recommendations and candidate search rank by these skills
+        searchIndexSync.jobSeekerChanged(jobSeeker);
     }
 
     
@@ -258,6 +256,20 @@ public class JobSeekerService {
                 Sort.by("name").ascending()
         );
 
+        // Served from memory once the dictionary is loaded
+        if (skillDictionary.isReady()) {
+            Page<SkillDTO> skills = skillDictionary.search(keyword, pageable);
+
+            List<SkillResponseDTO> content = skills.stream()
+                    .map(skill -> SkillResponseDTO.builder()
+                            .id(skill.getId())
+                            .name(skill.getName())
+                            .build())
+                    .toList();
+
+            return PaginationUtil.buildPagedResponse(skills, content);
+        }
+
         Page<Skill> skillPage;
 
         if (keyword != null && !keyword.trim().isEmpty()) {
@@ -589,6 +601,11 @@ public class JobSeekerService {
             JobSeekerSearchRequest request
     ) {
 
+        // Searches without text filters are served by the in-memory candidate index
+        if (isCandidateIndexSearch(request)) {
+            return searchJobSeekersInIndex(request);
+        }
+
         Specification<JobSeeker> specification =
                 JobSeekerSpecification.searchJobSeekers(
                         request.getKeyword(),
@@ -636,14 +653,101 @@ public class JobSeekerService {
             );
         }
 
-        Page<JobSeeker> page =
-                jobSeekerRepository.findAll(specification, pageable);
+        // Filters only; the count does not depend on page or sort
+        String countKey = "seekers:" + Arrays.asList(
+                request.getKeyword(),
+                request.getSkills(),
+                request.getCurrentLocation(),
+                request.getPreferredLocation(),
+                request.getMinExperience(),
+                request.getMaxExperience(),
+                request.getMinExpectedCTC(),
+                request.getMaxExpectedCTC(),
+                request.getNoticeStatus(),
+                request.getMaxNoticePeriod(),
+                request.getImmediateJoiner(),
+                request.getAvailableBefore()
+        );
+
+        Page<JobSeeker> page = pageCounter.find(request.getCountMode(), countKey, pageable,
+                p -> jobSeekerRepository.findAll(specification, p),
+                p -> jobSeekerRepository.findBy(specification, query -> query.project("user").slice(p)));
 
         List<JobSeekerSearchResponse> content =
                 page.stream()
                         .map(this::toSearchResponse)
                         .toList();
 
+        return PaginationUtil.buildPagedResponse(page, content, request.getCountMode());
+    }
+
+    private boolean isCandidateIndexSearch(JobSeekerSearchRequest request) {
+        boolean hasSkills = request.getSkills() != null && !request.getSkills().isEmpty();
+
+        return candidateIndex.isReady()
+                && isBlank(request.getKeyword())
+                && isBlank(request.getCurrentLocation())
+                && isBlank(request.getPreferredLocation())
+                && (hasSkills || CandidateSort.of(sortProperty(request)) != null);
+    }
+
+    private String sortProperty(JobSeekerSearchRequest request) {
+        return request.getSortBy() != null ? request.getSortBy() : "totalExperience";
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private PagedResponse<JobSeekerSearchResponse> searchJobSeekersInIndex(JobSeekerSearchRequest request) {
+
+        CandidateFilter filter = new CandidateFilter(
+                request.getMinExperience(),
+                request.getMaxExperience(),
+                request.getMinExpectedCTC(),
+                request.getMaxExpectedCTC(),
+                request.getNoticeStatus(),
+                request.getMaxNoticePeriod(),
+                request.getImmediateJoiner(),
+                request.getAvailableBefore()
+        );
+
+        Pageable pageable = PageRequest.of(
+                request.getPage() != null ? request.getPage() : 0,
+                request.getSize() != null ? request.getSize() : 10
+        );
+
+        Page<Long> page;
+
+        if (request.getSkills() != null && !request.getSkills().isEmpty()) {
+
+            List<Long> skillIds = skillDictionary.findIds(SkillNames.normalize(request.getSkills()));
+
+            page = candidateIndex.searchBySkills(skillIds, filter, pageable);
+
+        } else {
+
+            Sort.Direction direction =
+                    request.getSortDirection() != null
+                            ? Sort.Direction.fromString(request.getSortDirection())
+                            : Sort.Direction.DESC;
+
+            page = candidateIndex.search(
+                    filter, CandidateSort.of(sortProperty(request)), direction.isDescending(), pageable);
+        }
+
+        // Hydrate only the page, in ranked order
+        Map<Long, JobSeeker> seekers = jobSeekerRepository.findByIdIn(page.getContent())
+                .stream()
+                .collect(Collectors.toMap(JobSeeker::getId, Function.identity()));
+
+        List<JobSeekerSearchResponse> content = page.getContent().stream()
+                .map(seekers::get)
+                .filter(Objects::nonNull)
+                .map(this::toSearchResponse)
+                .toList();
+
+        // The index total is always exact
         return PaginationUtil.buildPagedResponse(page, content);
     }
 
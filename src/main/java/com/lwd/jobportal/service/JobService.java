@@ -2,7 +2,6 @@ package com.lwd.jobportal.service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,8 +11,11 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.lwd.jobportal.dto.comman.CountMode;
+import com.lwd.jobportal.dto.comman.CursorPage;
 import com.lwd.jobportal.dto.comman.PagedResponse;
 import com.lwd.jobportal.dto.comman.PaginationUtil;
 import com.lwd.jobportal.dto.companydto.CompanySummaryDTO;
@@ -27,9 +29,20 @@ import com.lwd.jobportal.enums.Role;
 import com.lwd.jobportal.enums.UserStatus;
 import com.lwd.jobportal.exception.ResourceNotFoundException;
 import com.lwd.jobportal.repository.*;
+import com.lwd.jobportal.search.JobMatch;
+import com.lwd.jobportal.search.JobMatchIndex;
+import com.lwd.jobportal.search.JobSearchCriteria;
+import com.lwd.jobportal.search.JobSearchIndex;
+import com.lwd.jobportal.search.SearchIndexSync;
+import com.lwd.jobportal.search.SeekerMatchProfile;
+import com.lwd.jobportal.search.SkillNames;
+import com.lwd.jobportal.search.Suggestion;
+import com.lwd.jobportal.search.SuggestionIndex;
+import com.lwd.jobportal.search.SuggestionType;
 import com.lwd.jobportal.security.SecurityUtils;
 import com.lwd.jobportal.specification.IndustryCount;
 import com.lwd.jobportal.specification.JobSpecification;
+import com.lwd.jobportal.util.KeysetCursor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -38,11 +51,23 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class JobService {
 
+    private static final int TRENDING_LIMIT = 10;
+
     private final JobRepository jobRepository;
     private final CompanyRepository companyRepository;
     private final UserRepository userRepository;
     private final JobSeekerRepository jobSeekerRepository;
-    private final JobApplicationRepository jobApplicationRepository;
+    private final JobApplicationCounterRepository applicationCounterRepository;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobMatchIndex jobMatchIndex;
+    private final SearchIndexSync searchIndexSync;
+    private final SuggestionIndex suggestionIndex;
+    private final JobViewService jobViewService;
+    private final TrendingJobsService trendingJobsService;
+    private final CurrentCompanyService currentCompanyService;
+    private final PageCounter pageCounter;
+    private final JobResponseCache jobResponseCache;
+    private final SkillService skillService;
 
     // ==================================================
     // ADMIN CREATE JOB
@@ -55,7 +80,10 @@ public class JobService {
         Job job = buildJob(request, admin, company);
         job.setStatus(JobStatus.OPEN);
 
-        return mapToResponse(jobRepository.save(job));
+        Job savedJob = jobRepository.save(job);
+        searchIndexSync.jobChanged(savedJob);
+
+        return mapToResponse(savedJob);
     }
     
     
@@ -81,9 +109,10 @@ public class JobService {
         // ================= RECRUITER_ADMIN =================
         if (role == Role.RECRUITER_ADMIN) {
 
-            company = companyRepository.findByCreatedById(userId)
+            Long companyId = currentCompanyService.findOwnedCompanyId(userId)
                     .orElseThrow(() ->
                             new IllegalStateException("Recruiter Admin does not own any company"));
+            company = companyRepository.getReferenceById(companyId);
 
         }
         // ================= RECRUITER =================
@@ -103,7 +132,10 @@ public class JobService {
         Job job = buildJob(request, user, company);
         job.setStatus(JobStatus.OPEN);
 
-        return mapToResponse(jobRepository.save(job));
+        Job savedJob = jobRepository.save(job);
+        searchIndexSync.jobChanged(savedJob);
+
+        return mapToResponse(savedJob);
     }
 
 	 // ==================================================
@@ -139,6 +171,10 @@ public class JobService {
 	     job.setDepartment(request.getDepartment());
 	     job.setWorkplaceType(request.getWorkplaceType());
 	
+	     // ===== SKILLS =====
+	     job.setSkills(request.getSkills());
+	     job.setRequiredSkills(skillService.resolveSkills(SkillNames.parse(request.getSkills())));
+	
 	     // ===== JOB CONTENT =====
 	     job.setResponsibilities(request.getResponsibilities());
 	     job.setRequirements(request.getRequirements());
@@ -159,6 +195,8 @@ public class JobService {
 	     }
 	
 	     Job updatedJob = jobRepository.save(job);
+	     searchIndexSync.jobChanged(updatedJob);
+	     jobResponseCache.invalidate(jobId);
 	
 	     return mapToResponse(updatedJob);
 	 }
@@ -182,6 +220,8 @@ public class JobService {
         job.setStatus(JobStatus.CLOSED); // Optional but recommended
 
         jobRepository.save(job);
+        searchIndexSync.jobChanged(job);
+        jobResponseCache.invalidate(jobId);
     }
 
 
@@ -197,7 +237,12 @@ public class JobService {
         validateOwnership(user, job);
 
         job.setStatus(status);
-        return mapToResponse(jobRepository.save(job));
+
+        Job savedJob = jobRepository.save(job);
+        searchIndexSync.jobChanged(savedJob);
+        jobResponseCache.invalidate(jobId);
+
+        return mapToResponse(savedJob);
     }
     
     
@@ -226,13 +271,13 @@ public class JobService {
         // ================= RECRUITER_ADMIN =================
         else if (role == Role.RECRUITER_ADMIN) {
 
-            Company company = companyRepository
-                    .findByCreatedById(userId)
+            Long companyId = currentCompanyService
+                    .findOwnedCompanyId(userId)
                     .orElseThrow(() ->
                             new ResourceNotFoundException("Company not found for recruiter admin"));
 
             jobPageRaw = jobRepository
-                    .findByCompanyId(company.getId(), pageable);
+                    .findByCompanyId(companyId, pageable);
         }
         // ================= RECRUITER =================
         else if (role == Role.RECRUITER) {
@@ -257,7 +302,7 @@ public class JobService {
         if (!jobIds.isEmpty()) {
 
             List<Object[]> counts =
-                    jobApplicationRepository.countApplicationsForJobs(jobIds);
+                    applicationCounterRepository.totalsForJobs(jobIds);
 
             for (Object[] row : counts) {
                 Long jobId = (Long) row[0];
@@ -276,7 +321,7 @@ public class JobService {
     }
     
     
-    public PagedJobResponse searchJobsByRole(String keyword, int page) {
+    public PagedJobResponse searchJobsByRole(String keyword, int page, CountMode countMode) {
 
         Long userId = SecurityUtils.getUserId();
         Role role = SecurityUtils.getRole();
@@ -286,14 +331,20 @@ public class JobService {
         Page<Job> jobPageRaw;
 
         if (role == Role.ADMIN) {
-            jobPageRaw = jobRepository.searchAllJobs(keyword, pageable);
+            jobPageRaw = pageCounter.find(countMode, "jobs:all:" + keyword, pageable,
+                    p -> jobRepository.searchAllJobs(keyword, p),
+                    p -> jobRepository.searchAllJobsSlice(keyword, p));
         } else if (role == Role.RECRUITER_ADMIN) {
-            Company company = companyRepository.findByCreatedById(userId)
+            Long companyId = currentCompanyService.findOwnedCompanyId(userId)
                     .orElseThrow(() -> new ResourceNotFoundException("Company not found for recruiter admin"));
 
-            jobPageRaw = jobRepository.searchJobsByCompany(company.getId(), keyword, pageable);
+            jobPageRaw = pageCounter.find(countMode, "jobs:company:" + companyId + ":" + keyword, pageable,
+                    p -> jobRepository.searchJobsByCompany(companyId, keyword, p),
+                    p -> jobRepository.searchJobsByCompanySlice(companyId, keyword, p));
         } else if (role == Role.RECRUITER) {
-            jobPageRaw = jobRepository.searchJobsByCreator(userId, keyword, pageable);
+            jobPageRaw = pageCounter.find(countMode, "jobs:creator:" + userId + ":" + keyword, pageable,
+                    p -> jobRepository.searchJobsByCreator(userId, keyword, p),
+                    p -> jobRepository.searchJobsByCreatorSlice(userId, keyword, p));
         } else {
             throw new AccessDeniedException("Unauthorized role");
         }
@@ -305,7 +356,7 @@ public class JobService {
 
         Map<Long, Long> countMap = new HashMap<>();
         if (!jobIds.isEmpty()) {
-            List<Object[]> counts = jobApplicationRepository.countApplicationsForJobs(jobIds);
+            List<Object[]> counts = applicationCounterRepository.totalsForJobs(jobIds);
             for (Object[] row : counts) {
                 countMap.put((Long) row[0], (Long) row[1]);
             }
@@ -314,7 +365,7 @@ public class JobService {
         // ================= MAP TO DTO =================
         Page<JobResponse> jobPage = jobPageRaw.map(job -> mapToResponse(job, countMap));
 
-        return toPagedResponse(jobPage);
+        return toPagedResponse(jobPage, countMode);
     }
 
     
@@ -322,17 +373,24 @@ public class JobService {
     // ==================================================
     // GET JOB BY ID
     // ==================================================
+    // No transaction here, so a cache hit never touches the database
+    @Transactional(propagation = Propagation.SUPPORTS)
     public JobResponse getJobById(Long jobId) {
 
-        Job job = getJobByIdInternal(jobId);
-
-        // get application count
-        Long totalApplications =
-                jobApplicationRepository.countByJobId(jobId);
+        JobResponse response = jobResponseCache.get(
+                jobId,
+                id -> mapToResponse(getJobByIdInternal(id)),
+                applicationCounterRepository::totalForJob,
+                id -> jobRepository.findResponseRevision(id).stream()
+                        .findFirst()
+                        .map(row -> new JobResponseCache.Revision((Long) row[0], (LocalDateTime) row[1]))
+                        .orElse(null)
+        );
 
-        Map<Long, Long> countMap = Map.of(jobId, totalApplications);
+        // Counted in memory, flushed in batches
+        jobViewService.recordView(jobId);
 
-        return mapToResponse(job, countMap);
+        return response;
     }
 
     
@@ -395,7 +453,7 @@ public class JobService {
 
         // Status-wise count
         List<Object[]> results =
-                jobApplicationRepository.countApplicationsByStatus(jobId);
+                applicationCounterRepository.countsByJob(jobId);
 
         Map<String, Long> statusCounts = new HashMap<>();
         Long total = 0L;
@@ -420,7 +478,7 @@ public class JobService {
     // ==================================================
     // GET ALL JOBS
     // ==================================================
-    public PagedJobResponse getAllJobs(int page, int size) {
+    public PagedJobResponse getAllJobs(int page, int size, CountMode countMode) {
 
         Pageable pageable = PageRequest.of(
                 page,
@@ -428,8 +486,11 @@ public class JobService {
                 Sort.by(Sort.Direction.DESC, "createdAt")
         );
 
-        Page<Job> jobPage =
-                jobRepository.findAll(JobSpecification.publicJobs(), pageable);
+        Specification<Job> spec = JobSpecification.publicJobs();
+
+        Page<Job> jobPage = pageCounter.find(countMode, "jobs:public", pageable,
+                p -> jobRepository.findAll(spec, p),
+                p -> jobRepository.findBy(spec, query -> query.slice(p)));
 
         // =============================
         // Extract job IDs
@@ -447,7 +508,7 @@ public class JobService {
         if (!jobIds.isEmpty()) {
 
             List<Object[]> counts =
-                    jobApplicationRepository.countApplicationsForJobs(jobIds);
+                    applicationCounterRepository.totalsForJobs(jobIds);
 
             for (Object[] row : counts) {
 
@@ -464,7 +525,7 @@ public class JobService {
         Page<JobResponse> responsePage =
                 jobPage.map(job -> mapToResponse(job, countMap));
 
-        return toPagedResponse(responsePage);
+        return toPagedResponse(responsePage, countMode);
     }
 
 
@@ -487,10 +548,12 @@ public class JobService {
     // ==================================================
     // GET JOB BY iNDUSTRIES
     // ==================================================
-    public PagedJobResponse getJobsByIndustry(String industry, int page, int size) {
+    public PagedJobResponse getJobsByIndustry(String industry, int page, int size, CountMode countMode) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
 
-        Page<Job> jobPage = jobRepository.findByIndustryIgnoreCaseAndStatus(industry, JobStatus.OPEN, pageable);
+        Page<Job> jobPage = pageCounter.find(countMode, "jobs:industry:" + industry.toLowerCase(), pageable,
+                p -> jobRepository.findByIndustryIgnoreCaseAndStatus(industry, JobStatus.OPEN, p),
+                p -> jobRepository.findSliceByIndustryIgnoreCaseAndStatus(industry, JobStatus.OPEN, p));
 
         List<JobResponse> jobResponses = jobPage.getContent()
                 .stream()
@@ -503,7 +566,8 @@ public class JobService {
                 jobPage.getSize(),
                 jobPage.getTotalElements(),
                 jobPage.getTotalPages(),
-                jobPage.isLast()
+                jobPage.isLast(),
+                PaginationUtil.isTotalExact(jobPage, countMode)
                 );
     }
      
@@ -535,6 +599,32 @@ public class JobService {
 	             Sort.by(Sort.Direction.DESC, "createdAt")
 	     );
 	
+	     // ===== FAST PATH: in-memory index, hydrate only the page =====
+	     if (jobSearchIndex.isReady()) {
+	
+	         JobSearchCriteria criteria = JobSearchCriteria.builder()
+	                 .keyword(keyword)
+	                 .location(location)
+	                 .industry(industry)
+	                 .companyName(companyName)
+	                 .minExp(minExp)
+	                 .maxExp(maxExp)
+	                 .jobType(jobType)
+	                 .noticePreference(noticePreference)
+	                 .maxNoticePeriod(maxNoticePeriod)
+	                 .lwdPreferred(lwdPreferred)
+	                 .build();
+	
+	         Page<Long> idPage = jobSearchIndex.search(criteria, pageable);
+	         List<Job> jobs = findJobsInOrder(idPage.getContent());
+	
+	         return toPagedResponse(
+	                 new PageImpl<>(jobs, pageable, idPage.getTotalElements())
+	                         .map(this::mapToResponse)
+	         );
+	     }
+	
+	     // ===== FALLBACK: index still warming up =====
 	     Specification<Job> spec = JobSpecification.searchJobs(
 	             keyword,
 	             location,
@@ -557,6 +647,159 @@ public class JobService {
 
 
 	 
+    // ==================================================
+    // KEYSET FEEDS (cursor paging, no total count)
+    // ==================================================
+
+    private static final Sort KEYSET_ORDER = Sort.by(Sort.Direction.DESC, "createdAt")
+            .and(Sort.by(Sort.Direction.DESC, "id"));
+
+    private static final int MAX_FEED_SIZE = 50;
+
+    @Transactional(readOnly = true)
+    public CursorPage<JobResponse> getJobFeed(String cursor, int size) {
+        return findFeed(JobSpecification.publicFeed(), cursor, size);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<JobResponse> getCompanyJobFeed(Long companyId, String cursor, int size) {
+        return findFeed(
+                JobSpecification.publicFeed().and(JobSpecification.companyIs(companyId)),
+                cursor,
+                size
+        );
+    }
+
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasAnyRole('ADMIN','RECRUITER_ADMIN','RECRUITER')")
+    public CursorPage<JobResponse> getMyJobFeed(String cursor, int size) {
+
+        Long userId = SecurityUtils.getUserId();
+        Role role = SecurityUtils.getRole();
+
+        Specification<Job> spec = JobSpecification.notDeleted();
+
+        if (role == Role.RECRUITER_ADMIN) {
+
+            Long companyId = currentCompanyService
+                    .findOwnedCompanyId(userId)
+                    .orElseThrow(() ->
+                            new ResourceNotFoundException("Company not found for recruiter admin"));
+
+            spec = spec.and(JobSpecification.companyIs(companyId));
+        } else if (role == Role.RECRUITER) {
+            spec = spec.and(JobSpecification.createdByIs(userId));
+        } else if (role != Role.ADMIN) {
+            throw new AccessDeniedException("Unauthorized role");
+        }
+
+        return findFeed(spec, cursor, size);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<JobResponse> searchPublicJobFeed(
+            String keyword,
+            String location,
+            String industry,
+            String companyName,
+            Integer minExp,
+            Integer maxExp,
+            JobType jobType,
+            NoticeStatus noticePreference,
+            Integer maxNoticePeriod,
+            Boolean lwdPreferred,
+            String cursor,
+            int size
+    ) {
+
+        size = feedSize(size);
+
+        // ===== FAST PATH: in-memory index =====
+        if (jobSearchIndex.isReady()) {
+
+            JobSearchCriteria criteria = JobSearchCriteria.builder()
+                    .keyword(keyword)
+                    .location(location)
+                    .industry(industry)
+                    .companyName(companyName)
+                    .minExp(minExp)
+                    .maxExp(maxExp)
+                    .jobType(jobType)
+                    .noticePreference(noticePreference)
+                    .maxNoticePeriod(maxNoticePeriod)
+                    .lwdPreferred(lwdPreferred)
+                    .build();
+
+            List<Long> ids = jobSearchIndex.searchAfter(criteria, KeysetCursor.decode(cursor), size + 1);
+            return toCursorPage(findJobsInOrder(ids), size);
+        }
+
+        // ===== FALLBACK: index still warming up =====
+        Specification<Job> spec = JobSpecification.searchJobs(
+                keyword,
+                location,
+                industry,
+                companyName,
+                minExp,
+                maxExp,
+                jobType,
+                noticePreference,
+                maxNoticePeriod,
+                lwdPreferred,
+                null,
+                true
+        );
+
+        return findFeed(spec, cursor, size);
+    }
+
+    // Reads one row past the page to learn whether another page exists
+    private CursorPage<JobResponse> findFeed(Specification<Job> spec, String cursor, int size) {
+
+        int limit = feedSize(size);
+
+        Specification<Job> seek = spec.and(JobSpecification.createdBefore(KeysetCursor.decode(cursor)));
+
+        List<Job> jobs = jobRepository.findBy(seek, query -> query
+                .sortBy(KEYSET_ORDER)
+                .limit(limit + 1)
+                .all());
+
+        return toCursorPage(jobs, limit);
+    }
+
+    private int feedSize(int size) {
+        return Math.max(1, Math.min(size, MAX_FEED_SIZE));
+    }
+
+    private CursorPage<JobResponse> toCursorPage(List<Job> jobs, int size) {
+
+        boolean hasNext = jobs.size() > size;
+        List<Job> content = hasNext ? jobs.subList(0, size) : jobs;
+
+        Map<Long, Long> countMap = new HashMap<>();
+        List<Long> jobIds = content.stream().map(Job::getId).toList();
+
+        if (!jobIds.isEmpty()) {
+            for (Object[] row : applicationCounterRepository.totalsForJobs(jobIds)) {
+                countMap.put((Long) row[0], (Long) row[1]);
+            }
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Job last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CursorPage<>(
+                content.stream().map(job -> mapToResponse(job, countMap)).toList(),
+                size,
+                nextCursor,
+                hasNext
+        );
+    }
+
 	// ==================================================
 	// SUGGESTED JOBS
 	// ==================================================
@@ -631,6 +874,15 @@ public class JobService {
             return List.of();
         }
 
+        // Served from memory once the suggestion index is built
+        if (suggestionIndex.isReady()) {
+            return suggestionIndex.suggest(keyword, SuggestionType.JOB_FACETS, 3, 10)
+                    .stream()
+                    .map(Suggestion::getLabel)
+                    .distinct()
+                    .toList();
+        }
+
         String lowerKeyword = keyword.toLowerCase().trim();
         Pageable limit = PageRequest.of(0, 3); // max 3 from each category
 
@@ -669,10 +921,21 @@ public class JobService {
     
     public List<JobResponse> getTrendingJobs() {
 
-        Pageable pageable = PageRequest.of(0, 10);
+        List<Long> trendingIds = trendingJobsService.getTrendingIds();
 
-        return jobRepository.findTrendingJobs(pageable)
+        // ===== FALLBACK: ranking not computed yet =====
+        if (trendingIds == null) {
+            return jobRepository.findTrendingJobs(PageRequest.of(0, TRENDING_LIMIT))
+                    .stream()
+                    .map(this::mapToResponse)
+                    .toList();
+        }
+
+        // Already ranked; only drop jobs closed since the last refresh
+        return findJobsInOrder(trendingIds)
                 .stream()
+                .filter(job -> job.getStatus() == JobStatus.OPEN && !Boolean.TRUE.equals(job.getDeleted()))
+                .limit(TRENDING_LIMIT)
                 .map(this::mapToResponse)
                 .toList();
     }
@@ -680,31 +943,47 @@ public class JobService {
     
     
     
-    public PagedResponse<JobResponse> getRecommendedJobs(
-	        int page,
-	        int size
-	) {
-	
-	    Long userId = SecurityUtils.getUserId();
-	
-	    JobSeeker seeker = jobSeekerRepository
-	            .findByUserId(userId)
-	            .orElseThrow(() -> new ResourceNotFoundException("Profile not found"));
-	
-	    Specification<Job> spec =
-	            JobSpecification.recommendedJobs(seeker);
-	
-	    Pageable pageable = PageRequest.of(page, size);
-	
-	    Page<Job> jobPage = jobRepository.findAll(spec, pageable);
-	
-	    List<JobResponse> content = jobPage.stream()
-	            .map(job -> mapToRecommendedJobResponse(job, seeker))
-	            .sorted(Comparator.comparing(JobResponse::getMatchScore).reversed())
-	            .toList();
-	
-	    return PaginationUtil.buildPagedResponse(jobPage, content);
-	}
+    // ==================================================
+    // RECOMMENDED JOBS (ranked over all open jobs by JobMatchIndex)
+    // ==================================================
+    @Transactional(readOnly = true)
+    public PagedResponse<JobResponse> getRecommendedJobs(int page, int size) {
+
+        Long userId = SecurityUtils.getUserId();
+
+        Page<JobMatch> matches = jobMatchIndex.recommend(
+                userId,
+                PageRequest.of(page, size),
+                () -> jobSeekerRepository.findByUserId(userId)
+                        .map(SeekerMatchProfile::from)
+                        .orElseThrow(() -> new ResourceNotFoundException("Profile not found"))
+        );
+
+        Map<Long, Integer> scores = new HashMap<>();
+        List<Long> jobIds = new ArrayList<>();
+        for (JobMatch match : matches) {
+            scores.put(match.jobId(), match.score());
+            jobIds.add(match.jobId());
+        }
+
+        // The index drops closed and deleted jobs after commit; one closed in
+        // between is dropped here and from the total
+        List<JobResponse> content = findJobsInOrder(jobIds)
+                .stream()
+                .filter(job -> job.getStatus() == JobStatus.OPEN && !Boolean.TRUE.equals(job.getDeleted()))
+                .map(job -> {
+                    JobResponse response = mapToResponse(job);
+                    response.setMatchScore(scores.get(job.getId()));
+                    return response;
+                })
+                .toList();
+
+        long dropped = jobIds.size() - content.size();
+        Page<JobResponse> result = new PageImpl<>(
+                content, matches.getPageable(), matches.getTotalElements() - dropped);
+
+        return PaginationUtil.buildPagedResponse(result, content);
+    }
 
 
     
@@ -734,6 +1013,28 @@ public class JobService {
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
     }
 
+    // Single IN query, result re-ordered to match the given ids
+    private List<Job> findJobsInOrder(List<Long> jobIds) {
+
+        if (jobIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Job> jobsById = new HashMap<>();
+        for (Job job : jobRepository.findByIdIn(jobIds)) {
+            jobsById.put(job.getId(), job);
+        }
+
+        List<Job> ordered = new ArrayList<>(jobIds.size());
+        for (Long id : jobIds) {
+            Job job = jobsById.get(id);
+            if (job != null) {
+                ordered.add(job);
+            }
+        }
+        return ordered;
+    }
+
  // ================= ROLE BASED VALIDATION =================
     private void validateOwnership(User user, Job job) {
 
@@ -791,6 +1092,7 @@ public class JobService {
                 // ================= CANDIDATE PREFERENCES =================
                 .education(request.getEducation())
                 .skills(request.getSkills())
+                .requiredSkills(skillService.resolveSkills(SkillNames.parse(request.getSkills())))
                 .genderPreference(request.getGenderPreference())
                 .ageLimit(request.getAgeLimit())
 
@@ -836,13 +1138,18 @@ public class JobService {
 
 
     private PagedJobResponse toPagedResponse(Page<JobResponse> page) {
+        return toPagedResponse(page, CountMode.EXACT);
+    }
+
+    private PagedJobResponse toPagedResponse(Page<JobResponse> page, CountMode countMode) {
         return new PagedJobResponse(
                 page.getContent(),
                 page.getNumber(),
                 page.getSize(),
                 page.getTotalElements(),
                 page.getTotalPages(),
-                page.isLast()
+                page.isLast(),
+                PaginationUtil.isTotalExact(page, countMode)
         );
     }
     
@@ -889,6 +1196,8 @@ public class JobService {
                                 : null
                 )
                 .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .version(job.getVersion())
 
                 // ===== LWD FIELDS =====
                 .noticePreference(
@@ -910,6 +1219,7 @@ public class JobService {
                                         .id(company.getId())
                                         .companyName(company.getCompanyName())
                                         .logo(company.getLogoUrl())
+                                        .updatedAt(company.getUpdatedAt())
                                         .build()
                                 : null
                 )
@@ -965,6 +1275,8 @@ public class JobService {
                                 : null
                 )
                 .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .version(job.getVersion())
 
                 // ===== APPLICATION COUNT =====
                 .totalApplications(totalApplications)
@@ -989,6 +1301,7 @@ public class JobService {
                                         .id(company.getId())
                                         .companyName(company.getCompanyName())
                                         .logo(company.getLogoUrl())
+                                        .updatedAt(company.getUpdatedAt())
                                         .build()
                                 : null
                 )
@@ -999,99 +1312,6 @@ public class JobService {
     
     
     
-    private int calculateMatchScore(Job job, JobSeeker seeker) {
-
-	    int score = 0;
-	
-	    // =========================
-	    // 1️⃣ EXPERIENCE (30%)
-	    // =========================
-	    if (seeker.getTotalExperience() != null &&
-	            job.getMinExperience() != null &&
-	            job.getMaxExperience() != null) {
-	
-	        int exp = seeker.getTotalExperience();
-	
-	        if (exp >= job.getMinExperience() &&
-	                exp <= job.getMaxExperience()) {
-	            score += 30;
-	        }
-	    }
-	
-	    // =========================
-	    // 2️⃣ LOCATION (20%)
-	    // =========================
-	    if (seeker.getPreferredLocation() != null &&
-	            job.getLocation() != null &&
-	            job.getLocation().toLowerCase()
-	                    .contains(seeker.getPreferredLocation().toLowerCase())) {
-	        score += 20;
-	    }
-	
-	    // =========================
-	    // 3️⃣ INDUSTRY (15%)
-	    // =========================
-	    if (seeker.getCurrentCompany() != null &&
-	            job.getIndustry() != null &&
-	            job.getIndustry().toLowerCase()
-	                    .contains(seeker.getCurrentCompany().toLowerCase())) {
-	        score += 15;
-	    }
-	
-	    // =========================
-	    // 4️⃣ JOB TYPE (10%)
-	    // =========================
-	    if (job.getJobType() != null) {
-	        score += 10; // you can refine later
-	    }
-	
-	    // =========================
-	    // 5️⃣ NOTICE MATCH (10%)
-	    // =========================
-	    if (seeker.getNoticePeriod() != null &&
-	            job.getMaxNoticePeriod() != null &&
-	            seeker.getNoticePeriod() <= job.getMaxNoticePeriod()) {
-	        score += 10;
-	    }
-	
-	 // =========================
-	 // 6️⃣ SALARY MATCH (5%)
-	 // =========================
-	 if (seeker.getExpectedCTC() != null &&
-	         job.getMinSalary() != null &&
-	         job.getMaxSalary() != null &&
-	         seeker.getExpectedCTC() >= job.getMinSalary() &&
-	         seeker.getExpectedCTC() <= job.getMaxSalary()) {
-
-	     score += 5;
-	 }
-
-	    // =========================
-	    // 7️⃣ PROFILE BOOST (10%)
-	    // =========================
-	    if (seeker.getProfileCompletion() != null &&
-	            seeker.getProfileCompletion() >= 75) {
-	        score += 10;
-	    }
-	
-	    return score;
-    }
-
-
-    
-    private JobResponse mapToRecommendedJobResponse(
-            Job job,
-            JobSeeker seeker
-    ) {
-
-        JobResponse response = mapToResponse(job); // reuse old mapping
-
-        int score = calculateMatchScore(job, seeker);
-
-        response.setMatchScore(score);
-
-        return response;
-    }
 
     
 }
@@ -0,0 +1,129 @@
+package com.lwd.jobportal.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lwd.jobportal.entity.Skill;
+import com.lwd.jobportal.repository.JobRepository;
+import com.lwd.jobportal.search.SkillNames;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * One-off population of {@code job_skills} for jobs posted before the table
+ * existed, by parsing their skills text.
+ *
+ * Runs at startup, before the search indexes warm up, in batches of
+ * {@code lwd.jobs.skill-backfill.batch-size}, one transaction per batch. Only jobs
+ * with non-blank skills text and no rows are read, so once the table is filled
+ * each run costs a single empty query. Rows are upserted, so nodes starting
+ * together may backfill the same job without hitting {@code uk_job_skill}.
+ */
+@Slf4j
+@Service
+public class JobSkillBackfill {
+
+    private static final String LINK_SQL =
+            "INSERT INTO job_skills (job_id, skill_id) VALUES (?, ?) ON DUPLICATE KEY UPDATE job_id = job_id";
+
+    private final JobRepository jobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final SkillService skillService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public JobSkillBackfill(
+            JobRepository jobRepository,
+            JdbcTemplate jdbcTemplate,
+            SkillService skillService,
+            TransactionTemplate transactionTemplate,
+            @Value("${lwd.jobs.skill-backfill.enabled:true}") boolean enabled,
+            @Value("${lwd.jobs.skill-backfill.batch-size:200}") int batchSize
+    ) {
+        this.jobRepository = jobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.skillService = skillService;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            int linked = backfill();
+            if (linked > 0) {
+                log.info("Linked skills for {} existing jobs", linked);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Job skills backfill failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * @return number of jobs that received skill rows
+     */
+    public int backfill() {
+        long afterId = 0L;
+        int linked = 0;
+
+        while (true) {
+            long from = afterId;
+            Batch batch = transactionTemplate.execute(status -> linkBatch(from));
+
+            if (batch.read() == 0) {
+                return linked;
+            }
+            linked += batch.linked();
+            afterId = batch.lastId();
+        }
+    }
+
+    private Batch linkBatch(long afterId) {
+        List<Object[]> jobs = jobRepository.findJobsWithoutSkillRows(afterId, PageRequest.of(0, batchSize));
+        List<Object[]> links = new ArrayList<>();
+        int linked = 0;
+
+        for (Object[] job : jobs) {
+            Long jobId = (Long) job[0];
+
+            // Text with no usable names stays unlinked; the id walk moves past it
+            List<String> names = SkillNames.parse((String) job[1]).stream()
+                    .filter(name -> name.length() <= Skill.MAX_NAME_LENGTH)
+                    .toList();
+            Set<Skill> skills = skillService.resolveSkills(names);
+
+            skills.forEach(skill -> links.add(new Object[] { jobId, skill.getId() }));
+            if (!skills.isEmpty()) {
+                linked++;
+            }
+        }
+
+        if (!links.isEmpty()) {
+            jdbcTemplate.batchUpdate(LINK_SQL, links);
+        }
+
+        long lastId = jobs.isEmpty() ? afterId : (Long) jobs.get(jobs.size() - 1)[0];
+        return new Batch(jobs.size(), linked, lastId);
+    }
+
+    private record Batch(int read, int linked, long lastId) {
+    }
+}
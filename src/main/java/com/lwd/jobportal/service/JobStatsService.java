@@ -0,0 +1,70 @@
+package com.lwd.jobportal.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lwd.jobportal.dto.jobdto.JobStatsDTO;
+import com.lwd.jobportal.enums.ApplicationStatus;
+import com.lwd.jobportal.repository.JobApplicationCounterRepository;
+import com.lwd.jobportal.repository.JobRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Per-job application statistics for recruiter dashboards.
+ *
+ * Each page of jobs costs two queries: the job page itself and one lookup of
+ * the (job, status) application counters for those jobs.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class JobStatsService {
+
+    private final JobRepository jobRepository;
+    private final JobApplicationCounterRepository applicationCounterRepository;
+
+    public Page<JobStatsDTO> getPerJobStats(Long recruiterId, Pageable pageable) {
+
+        Page<Object[]> jobs = jobRepository.findJobTitlesByCreatedById(recruiterId, pageable);
+
+        Map<Long, JobStatsDTO> statsByJob = new LinkedHashMap<>();
+        for (Object[] row : jobs) {
+            JobStatsDTO stats = new JobStatsDTO();
+            stats.setJobId((Long) row[0]);
+            stats.setJobTitle((String) row[1]);
+            statsByJob.put(stats.getJobId(), stats);
+        }
+
+        if (!statsByJob.isEmpty()) {
+            for (Object[] row : applicationCounterRepository.countsForJobs(statsByJob.keySet())) {
+                add(statsByJob.get((Long) row[0]), (ApplicationStatus) row[1], (Long) row[2]);
+            }
+        }
+
+        return jobs.map(row -> statsByJob.get((Long) row[0]));
+    }
+
+    private void add(JobStatsDTO stats, ApplicationStatus status, long count) {
+
+        stats.setApplications(stats.getApplications() + count);
+
+        switch (status) {
+            case SHORTLISTED -> stats.setShortlisted(stats.getShortlisted() + count);
+            case REJECTED -> stats.setRejected(stats.getRejected() + count);
+            case INTERVIEW_SCHEDULED -> {
+                stats.setInterview(stats.getInterview() + count);
+                // Pending = APPLIED + INTERVIEW_SCHEDULED
+                stats.setPending(stats.getPending() + count);
+            }
+            case APPLIED -> stats.setPending(stats.getPending() + count);
+            default -> {
+            }
+        }
+    }
+}
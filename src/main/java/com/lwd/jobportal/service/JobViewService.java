@@ -0,0 +1,101 @@
+package com.lwd.jobportal.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind counter for {@code Job.viewCount}.
+ *
+ * Views are recorded into striped in-memory counters, so the job detail read path
+ * stays write free. A background flush applies the aggregated increments with one
+ * batched UPDATE every {@code lwd.jobs.views.flush-ms}, and a final flush runs on
+ * graceful shutdown. The column is not updatable through the entity, so saving
+ * a loaded {@code Job} never overwrites the flushed count.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobViewService {
+
+    private static final String INCREMENT_SQL =
+            "UPDATE jobs SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // Idle counters dropped by the previous flush; drained once more so that an
+    // increment racing with the removal is still written
+    private List<LongAdder> retired = new ArrayList<>();
+    private List<Long> retiredIds = new ArrayList<>();
+
+    public void recordView(Long jobId) {
+        pending.computeIfAbsent(jobId, id -> new LongAdder()).increment();
+    }
+
+    // ==================================================
+    // FLUSH
+    // ==================================================
+
+    @Scheduled(
+            initialDelayString = "${lwd.jobs.views.flush-ms:10000}",
+            fixedDelayString = "${lwd.jobs.views.flush-ms:10000}"
+    )
+    public synchronized void flush() {
+
+        List<Object[]> batch = new ArrayList<>();
+
+        // Late increments on counters retired last time
+        for (int i = 0; i < retired.size(); i++) {
+            long late = retired.get(i).sumThenReset();
+            if (late > 0) {
+                batch.add(new Object[]{late, retiredIds.get(i)});
+            }
+        }
+        retired = new ArrayList<>();
+        retiredIds = new ArrayList<>();
+
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long views = entry.getValue().sumThenReset();
+
+            if (views > 0) {
+                batch.add(new Object[]{views, entry.getKey()});
+            } else if (pending.remove(entry.getKey(), entry.getValue())) {
+                retired.add(entry.getValue());
+                retiredIds.add(entry.getKey());
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(INCREMENT_SQL, batch);
+        } catch (RuntimeException ex) {
+            // Put the views back and retry on the next run
+            for (Object[] row : batch) {
+                pending.computeIfAbsent((Long) row[1], id -> new LongAdder()).add((Long) row[0]);
+            }
+            log.warn("Job view flush failed for {} jobs: {}", batch.size(), ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        // Second pass writes anything that raced with the retirement above
+        flush();
+    }
+}
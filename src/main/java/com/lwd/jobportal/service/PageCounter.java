@@ -0,0 +1,98 @@
+package com.lwd.jobportal.service;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lwd.jobportal.dto.comman.CountMode;
+
+/**
+ * Runs a paged query in the requested {@link CountMode}.
+ *
+ * NONE and a fresh ESTIMATED total read a Slice (one row past the page), so
+ * the COUNT query is skipped. ESTIMATED totals are remembered per query key for
+ * {@code lwd.paging.count-cache.ttl-ms}; a non-empty last page of a slice yields
+ * the exact total and refreshes the entry. An empty page past the end proves
+ * nothing about the total: ESTIMATED keeps the cached total, NONE counts.
+ */
+@Component
+public class PageCounter {
+
+    private final Cache<String, Long> totals;
+
+    public PageCounter(
+            @Value("${lwd.paging.count-cache.max-size:1000}") int maxSize,
+            @Value("${lwd.paging.count-cache.ttl-ms:60000}") long ttlMillis
+    ) {
+        this.totals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .build();
+    }
+
+    /**
+     * @param countKey   identifies the query without paging, e.g. {@code "jobs:industry:it"}
+     * @param pageQuery  data query with COUNT
+     * @param sliceQuery the same data query without COUNT
+     */
+    public <T> Page<T> find(
+            CountMode mode,
+            String countKey,
+            Pageable pageable,
+            Function<Pageable, Page<T>> pageQuery,
+            Function<Pageable, Slice<T>> sliceQuery
+    ) {
+        if (mode == null || mode == CountMode.EXACT) {
+            return pageQuery.apply(pageable);
+        }
+
+        if (mode == CountMode.NONE) {
+            Slice<T> slice = sliceQuery.apply(pageable);
+            if (isPastEnd(slice)) {
+                return pageQuery.apply(pageable);
+            }
+            return new PageImpl<>(slice.getContent(), pageable, lowerBound(slice));
+        }
+
+        Long cached = totals.getIfPresent(countKey);
+
+        if (cached == null) {
+            Page<T> page = pageQuery.apply(pageable);
+            totals.put(countKey, page.getTotalElements());
+            return page;
+        }
+
+        Slice<T> slice = sliceQuery.apply(pageable);
+
+        long total;
+        if (isPastEnd(slice)) {
+            total = cached;
+        } else if (!slice.hasNext()) {
+            total = lowerBound(slice);
+            totals.put(countKey, total);
+        } else {
+            // Never report fewer rows than the slice has already proven
+            total = Math.max(cached, lowerBound(slice));
+        }
+
+        return new PageImpl<>(slice.getContent(), pageable, total);
+    }
+
+    // Empty page after the first: the rows end somewhere before its offset
+    private boolean isPastEnd(Slice<?> slice) {
+        return !slice.hasContent() && slice.getPageable().getOffset() > 0;
+    }
+
+    private long lowerBound(Slice<?> slice) {
+        long seen = slice.getPageable().getOffset() + slice.getNumberOfElements();
+        return slice.hasNext() ? seen + 1 : seen;
+    }
+}
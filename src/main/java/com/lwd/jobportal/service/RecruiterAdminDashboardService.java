@@ -5,43 +5,68 @@ import com.lwd.jobportal.dto.jobdto.RecentJobDTO;
 import com.lwd.jobportal.dto.recruiteradmindto.*;
 import com.lwd.jobportal.dto.recruiterdto.RecruiterPerformanceDTO;
 import com.lwd.jobportal.entity.Job;
-import com.lwd.jobportal.entity.User;
 import com.lwd.jobportal.enums.ApplicationStatus;
 import com.lwd.jobportal.enums.JobStatus;
 import com.lwd.jobportal.enums.Role;
-import com.lwd.jobportal.repository.JobApplicationRepository;
+import com.lwd.jobportal.exception.BadRequestException;
+import com.lwd.jobportal.repository.JobApplicationCounterRepository;
 import com.lwd.jobportal.repository.JobRepository;
 import com.lwd.jobportal.repository.UserRepository;
+import com.lwd.jobportal.specification.RecruiterPerformanceProjection;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RecruiterAdminDashboardService {
 
+    // Sortable columns of the recruiter performance table
+    private static final Set<String> PERFORMANCE_SORT_FIELDS =
+            Set.of("recruiterName", "jobsPosted", "activeJobs", "applicationsReceived");
+
+    private static final List<Role> RECRUITER_ROLES = List.of(Role.RECRUITER, Role.RECRUITER_ADMIN);
+
     private final UserRepository userRepository;
     private final JobRepository jobRepository;
-    private final JobApplicationRepository applicationRepository;
+    private final JobApplicationCounterRepository applicationCounterRepository;
+    private final ApplicationCounterService applicationCounterService;
+
+    public Page<RecruiterPerformanceDTO> getRecruiterPerformance(
+            Long companyId,
+            int page,
+            int size,
+            String sortBy,
+            Sort.Direction direction
+    ) {
+        if (!PERFORMANCE_SORT_FIELDS.contains(sortBy)) {
+            throw new BadRequestException("Cannot sort recruiters by " + sortBy);
+        }
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy).and(Sort.by("recruiterId")));
+        return userRepository.findRecruiterPerformance(companyId, RECRUITER_ROLES, pageable)
+                .map(this::mapToRecruiterPerformance);
+    }
 
     public RecruiterAdminDashboardDTO getDashboard(Long companyId) {
         RecruiterAdminDashboardDTO dto = new RecruiterAdminDashboardDTO();
 
         // ---------- SUMMARY CARDS ----------
         dto.setTotalRecruitersInCompany(
-                userRepository.countByCompanyIdAndRoleIn(
-                        companyId,
-                        List.of(Role.RECRUITER, Role.RECRUITER_ADMIN)
-                )
+                userRepository.countByCompanyIdAndRoleIn(companyId, RECRUITER_ROLES)
         );
         dto.setTotalJobsPosted(jobRepository.countByCompanyId(companyId));
         dto.setActiveJobs(jobRepository.countByCompanyIdAndStatus(companyId, JobStatus.OPEN));
         dto.setClosedJobs(jobRepository.countByCompanyIdAndStatus(companyId, JobStatus.CLOSED));
-        dto.setTotalApplications(applicationRepository.countByJobCompanyId(companyId));
+        dto.setTotalApplications(applicationCounterRepository.totalForCompany(companyId));
 
         // ---------- RECRUITER PERFORMANCE ----------
         dto.setRecruiterPerformance(getRecruiterPerformance(companyId));
@@ -65,23 +90,25 @@ public class RecruiterAdminDashboardService {
     // ==================== PRIVATE HELPERS ====================
 
     private List<RecruiterPerformanceDTO> getRecruiterPerformance(Long companyId) {
-        List<User> recruiters = userRepository.findByCompanyIdAndRoleIn(
-                companyId,
-                List.of(Role.RECRUITER, Role.RECRUITER_ADMIN)
-        );
-
-        return recruiters.stream()
-                .map(recruiter -> {
-                    RecruiterPerformanceDTO perf = new RecruiterPerformanceDTO();
-                    perf.setRecruiterName(recruiter.getName());
-                    perf.setJobsPosted(jobRepository.countByCreatedById(recruiter.getId()));
-                    perf.setApplicationsReceived(applicationRepository.countByJobCreatedById(recruiter.getId()));
-                    perf.setActiveJobs(jobRepository.countByCreatedByIdAndStatus(recruiter.getId(), JobStatus.OPEN));
-                    return perf;
-                })
+        return userRepository.findRecruiterPerformance(
+                        companyId,
+                        RECRUITER_ROLES,
+                        Pageable.unpaged(Sort.by("recruiterName"))
+                ).stream()
+                .map(this::mapToRecruiterPerformance)
                 .collect(Collectors.toList());
     }
 
+    private RecruiterPerformanceDTO mapToRecruiterPerformance(RecruiterPerformanceProjection row) {
+        RecruiterPerformanceDTO perf = new RecruiterPerformanceDTO();
+        perf.setRecruiterId(row.getRecruiterId());
+        perf.setRecruiterName(row.getRecruiterName());
+        perf.setJobsPosted(row.getJobsPosted() != null ? row.getJobsPosted() : 0L);
+        perf.setActiveJobs(row.getActiveJobs() != null ? row.getActiveJobs() : 0L);
+        perf.setApplicationsReceived(row.getApplicationsReceived() != null ? row.getApplicationsReceived() : 0L);
+        return perf;
+    }
+
     private RecentJobDTO mapToRecentJob(Job job) {
         RecentJobDTO dto = new RecentJobDTO();
         dto.setTitle(job.getTitle());
@@ -91,12 +118,12 @@ public class RecruiterAdminDashboardService {
     }
 
     private HiringFunnelDTO getHiringFunnel(Long companyId) {
-        List<Object[]> results = applicationRepository.countByStatusForCompany(companyId);
+        Map<ApplicationStatus, Long> results = applicationCounterService.countsByCompany(companyId);
         HiringFunnelDTO funnel = new HiringFunnelDTO();
 
-        for (Object[] row : results) {
-            ApplicationStatus status = (ApplicationStatus) row[0];
-            Long count = (Long) row[1];
+        for (Map.Entry<ApplicationStatus, Long> row : results.entrySet()) {
+            ApplicationStatus status = row.getKey();
+            Long count = row.getValue();
             switch (status) {
                 case APPLIED:
                     funnel.setApplied(count);
@@ -33,6 +33,7 @@ public class RecruiterAdminService {
     private final UserRepository userRepository;
     private final CompanyRepository companyRepository;
     private final JobRepository jobRepository;
+    private final CurrentCompanyService currentCompanyService;
 
     @Transactional(readOnly = true)
     public PagedResponse<RecruiterResponse> getCompanyRecruiters(
@@ -41,10 +42,11 @@ public class RecruiterAdminService {
             int size
     ) {
 
-        Company company = companyRepository.findByCreatedById(recruiterAdminId)
+        Long companyId = currentCompanyService.findOwnedCompanyId(recruiterAdminId)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Company not found for this admin")
                 );
+        Company company = companyRepository.getReferenceById(companyId);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("id").descending());
 
@@ -83,7 +85,7 @@ public class RecruiterAdminService {
             int size
     ) {
 
-        Company company = companyRepository.findByCreatedById(recruiterAdminId)
+        Long companyId = currentCompanyService.findOwnedCompanyId(recruiterAdminId)
                 .orElseThrow(() -> new ResourceNotFoundException("Company not found"));
 
         Pageable pageable = PageRequest.of(page, size);
@@ -91,7 +93,7 @@ public class RecruiterAdminService {
         Page<User> recruiterPage = userRepository
                 .findByRoleAndCompanyIdAndStatus(
                         Role.RECRUITER,
-                        company.getId(),
+                        companyId,
                         UserStatus.PENDING_APPROVAL,
                         pageable
                 );
@@ -126,16 +128,17 @@ public class RecruiterAdminService {
         System.out.println("Approve request");
 
         // 2️⃣ Fetch company of logged-in RECRUITER_ADMIN
-        Company company = companyRepository.findByCreatedById(recruiterAdminId)
+        Long companyId = currentCompanyService.findOwnedCompanyId(recruiterAdminId)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Company not found for recruiter admin"));
 
         // 3️⃣ Assign company + activate recruiter
-        recruiter.setCompany(company);
+        recruiter.setCompany(companyRepository.getReferenceById(companyId));
         recruiter.setStatus(UserStatus.ACTIVE);
         recruiter.setIsActive(true);
 
         userRepository.save(recruiter);
+        currentCompanyService.companyChanged(recruiter.getId());
 
         return mapToResponse(recruiter);
     }
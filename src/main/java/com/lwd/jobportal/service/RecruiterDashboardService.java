@@ -3,16 +3,17 @@ package com.lwd.jobportal.service;
 import com.lwd.jobportal.dto.jobapplicationdto.RecentApplicationDTO;
 import com.lwd.jobportal.dto.jobdto.JobStatsDTO;
 import com.lwd.jobportal.dto.recruiterdto.*;
-import com.lwd.jobportal.entity.Job;
 import com.lwd.jobportal.entity.JobApplication;
 import com.lwd.jobportal.enums.ApplicationStatus;
 import com.lwd.jobportal.enums.JobStatus;
 import com.lwd.jobportal.repository.JobApplicationRepository;
 import com.lwd.jobportal.repository.JobRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,6 +22,12 @@ public class RecruiterDashboardService {
 
     private final JobRepository jobRepository;
     private final JobApplicationRepository applicationRepository;
+    private final JobStatsService jobStatsService;
+    private final ApplicationCounterService applicationCounterService;
+
+    public Page<JobStatsDTO> getPerJobStats(Long recruiterId, Pageable pageable) {
+        return jobStatsService.getPerJobStats(recruiterId, pageable);
+    }
 
     public RecruiterDashboardDTO getDashboard(Long recruiterId) {
         RecruiterDashboardDTO dto = new RecruiterDashboardDTO();
@@ -28,16 +35,13 @@ public class RecruiterDashboardService {
         // ---------- SUMMARY CARDS ----------
         dto.setMyPostedJobs(jobRepository.countByCreatedById(recruiterId));
         dto.setMyActiveJobs(jobRepository.countByCreatedByIdAndStatus(recruiterId, JobStatus.OPEN)); // OPEN not ACTIVE
-        dto.setTotalApplications(applicationRepository.countByJobCreatedById(recruiterId));
-        dto.setInterviewsScheduled(
-                applicationRepository.countByJobCreatedByIdAndStatus(recruiterId, ApplicationStatus.INTERVIEW_SCHEDULED)
-        );
-        dto.setShortlistedCandidates(
-                applicationRepository.countByJobCreatedByIdAndStatus(recruiterId, ApplicationStatus.SHORTLISTED)
-        );
 
-        // ---------- PER JOB STATS ----------
-        dto.setPerJobStats(getPerJobStats(recruiterId));
+        Map<ApplicationStatus, Long> applications = applicationCounterService.countsByRecruiter(recruiterId);
+        dto.setTotalApplications(applications.values().stream().mapToLong(Long::longValue).sum());
+        dto.setInterviewsScheduled(applications.getOrDefault(ApplicationStatus.INTERVIEW_SCHEDULED, 0L));
+        dto.setShortlistedCandidates(applications.getOrDefault(ApplicationStatus.SHORTLISTED, 0L));
+
+        // Per-job rows: paged, GET /api/dashboard/recruiter/job-stats
 
         // ---------- RECENT APPLICATIONS (last 5) ----------
         dto.setRecentApplications(
@@ -52,38 +56,6 @@ public class RecruiterDashboardService {
 
     // ==================== PRIVATE HELPERS ====================
 
-    private List<JobStatsDTO> getPerJobStats(Long recruiterId) {
-        List<Job> jobs = jobRepository.findByCreatedById(recruiterId);
-        return jobs.stream()
-                .map(job -> {
-                    JobStatsDTO stats = new JobStatsDTO();
-                    stats.setJobTitle(job.getTitle());
-
-                    long totalApps = applicationRepository.countByJobId(job.getId());
-                    stats.setApplications(totalApps);
-
-                    long shortlisted = applicationRepository.countByJobIdAndStatus(job.getId(), ApplicationStatus.SHORTLISTED);
-                    stats.setShortlisted(shortlisted);
-
-                    long rejected = applicationRepository.countByJobIdAndStatus(job.getId(), ApplicationStatus.REJECTED);
-                    stats.setRejected(rejected);
-
-                    // Pending = APPLIED + INTERVIEW_SCHEDULED (not shortlisted/rejected/selected/hired)
-                    long pending = applicationRepository.countByJobIdAndStatusIn(
-                            job.getId(),
-                            List.of(ApplicationStatus.APPLIED, ApplicationStatus.INTERVIEW_SCHEDULED)
-                    );
-                    stats.setPending(pending);
-
-                    // Optional: interview count separately
-                    long interview = applicationRepository.countByJobIdAndStatus(job.getId(), ApplicationStatus.INTERVIEW_SCHEDULED);
-                    stats.setInterview(interview);
-
-                    return stats;
-                })
-                .collect(Collectors.toList());
-    }
-
     private RecentApplicationDTO mapToRecentApplication(JobApplication app) {
         RecentApplicationDTO dto = new RecentApplicationDTO();
 
@@ -1,6 +1,7 @@
 package com.lwd.jobportal.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.*;
@@ -12,7 +13,6 @@ import org.springframework.transaction.annotation.Transactional;
 import com.lwd.jobportal.dto.jobapplicationdto.JobApplicationResponse;
 import com.lwd.jobportal.dto.jobapplicationdto.PagedApplicationsResponse;
 import com.lwd.jobportal.dto.jobapplicationdto.RecentApplicationDTO;
-import com.lwd.jobportal.dto.jobdto.JobStatsDTO;
 import com.lwd.jobportal.dto.jobdto.JobSummaryDTO;
 import com.lwd.jobportal.dto.recruiterdto.RecruiterProfileSummaryDTO;
 import com.lwd.jobportal.dto.recruiterdto.RecruiterRequestDTO;
@@ -46,6 +46,8 @@ public class RecruiterService {
     private final JobRepository jobRepository;
     private final JobApplicationRepository jobApplicationRepository;
     private final RecruiterRepository recruiterRepository;
+    private final ApplicationCounterService applicationCounterService;
+    private final CurrentCompanyService currentCompanyService;
 
     // =====================================================
     // CREATE OR UPDATE PROFILE
@@ -202,6 +204,7 @@ public class RecruiterService {
         recruiter.setStatus(UserStatus.PENDING_APPROVAL);
 
         userRepository.save(recruiter);
+        currentCompanyService.companyChanged(recruiter.getId());
     }
 
     // ================= GET MY JOBS =================
@@ -304,14 +307,12 @@ public class RecruiterService {
         // Summary metrics
         dto.setMyPostedJobs(jobRepository.countByCreatedById(recruiterId));
         dto.setMyActiveJobs(jobRepository.countByCreatedByIdAndStatus(recruiterId, JobStatus.OPEN));
-        dto.setTotalApplications(jobApplicationRepository.countByJobCreatedById(recruiterId));
-        dto.setInterviewsScheduled(jobApplicationRepository.countByJobCreatedByIdAndStatus(recruiterId, ApplicationStatus.INTERVIEW_SCHEDULED));
-        dto.setShortlistedCandidates(jobApplicationRepository.countByJobCreatedByIdAndStatus(recruiterId, ApplicationStatus.SHORTLISTED));
+        Map<ApplicationStatus, Long> applications = applicationCounterService.countsByRecruiter(recruiterId);
+        dto.setTotalApplications(applications.values().stream().mapToLong(Long::longValue).sum());
+        dto.setInterviewsScheduled(applications.getOrDefault(ApplicationStatus.INTERVIEW_SCHEDULED, 0L));
+        dto.setShortlistedCandidates(applications.getOrDefault(ApplicationStatus.SHORTLISTED, 0L));
 
-        // Per-job stats
-        dto.setPerJobStats(jobRepository.findByCreatedById(recruiterId).stream()
-                .map(this::mapJobStats)
-                .collect(Collectors.toList()));
+        // Per-job stats: paged, GET /api/dashboard/recruiter/job-stats
 
         // Recent applications (last 5)
         dto.setRecentApplications(jobApplicationRepository.findTop5ByJobCreatedByIdOrderByAppliedAtDesc(recruiterId)
@@ -323,18 +324,6 @@ public class RecruiterService {
     }
 
     // ==================== PRIVATE HELPERS ====================
-    private JobStatsDTO mapJobStats(Job job) {
-        JobStatsDTO stats = new JobStatsDTO();
-        stats.setJobId(job.getId());
-        stats.setJobTitle(job.getTitle());
-        stats.setApplications(jobApplicationRepository.countByJobId(job.getId()));
-        stats.setShortlisted(jobApplicationRepository.countByJobIdAndStatus(job.getId(), ApplicationStatus.SHORTLISTED));
-        stats.setRejected(jobApplicationRepository.countByJobIdAndStatus(job.getId(), ApplicationStatus.REJECTED));
-        stats.setPending(jobApplicationRepository.countByJobIdAndStatusIn(job.getId(), List.of(ApplicationStatus.APPLIED, ApplicationStatus.INTERVIEW_SCHEDULED)));
-        stats.setInterview(jobApplicationRepository.countByJobIdAndStatus(job.getId(), ApplicationStatus.INTERVIEW_SCHEDULED));
-        return stats;
-    }
-
     private RecentApplicationDTO mapRecentApplication(JobApplication app) {
         RecentApplicationDTO dto = new RecentApplicationDTO();
         dto.setApplicationId(app.getId());
@@ -0,0 +1,297 @@
+package com.lwd.jobportal.service;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.lwd.jobportal.dto.search.SkillDTO;
+import com.lwd.jobportal.entity.Skill;
+import com.lwd.jobportal.repository.SkillRepository;
+import com.lwd.jobportal.search.SearchIndexSync;
+import com.lwd.jobportal.util.KeysetLoader;
+import com.lwd.jobportal.util.TransactionHooks;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Process-wide dictionary of skills, keyed by lower-cased name.
+ *
+ * Lookups read a {@link ConcurrentHashMap} without locking. Names missing from it
+ * are first read with a plain, non-locking select, so saving a popular skill
+ * never locks its row. Only names still missing are inserted, with
+ * {@code INSERT IGNORE} on the caller's connection: a concurrent insert of the
+ * same name cannot fail the statement, so the caller's transaction is never marked
+ * rollback-only, and no second pooled connection is needed. Only rows this
+ * transaction inserted are reported as created; new entries are cached once it
+ * commits.
+ * Skills are never deleted, so an entry once cached stays valid; a periodic
+ * reload picks up skills added by other nodes.
+ */
+@Slf4j
+@Component
+public class SkillDictionary {
+
+    private static final String SELECT_BY_NAMES_SQL =
+            "SELECT id, name FROM skills WHERE name IN (:names)";
+
+    // Affects 0 rows when the name exists, including rows committed by another
+    // transaction after the caller's snapshot
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO skills (name) VALUES (?)";
+
+    // Shared lock: sees those late rows; only taken for names lost to a concurrent insert
+    private static final String SELECT_LATEST_BY_NAMES_SQL =
+            SELECT_BY_NAMES_SQL + " FOR SHARE";
+
+    // Case-insensitive like the MySQL collation, ties by id
+    private static final Comparator<Entry> BY_NAME =
+            Comparator.comparing(Entry::name, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparingLong(Entry::id);
+
+    private final SkillRepository skillRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final SearchIndexSync searchIndexSync;
+
+    private final ConcurrentHashMap<String, Entry> byName = new ConcurrentHashMap<>();
+
+    // Name-ordered view for listings, rebuilt on the first read after a change
+    private final AtomicLong changes = new AtomicLong();
+    private volatile SortedView sorted;
+    private volatile boolean ready = false;
+
+    public SkillDictionary(
+            SkillRepository skillRepository,
+            JdbcTemplate jdbcTemplate,
+            SearchIndexSync searchIndexSync
+    ) {
+        this.skillRepository = skillRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.searchIndexSync = searchIndexSync;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private record Entry(long id, String name) {
+    }
+
+    private record SortedView(long changes, List<Entry> entries) {
+    }
+
+    // ==================================================
+    // LOOKUP
+    // ==================================================
+
+    /**
+     * Ids of the existing skills among the given normalised names; unknown names are skipped.
+     */
+    public List<Long> findIds(Collection<String> normalizedNames) {
+        List<Long> ids = new ArrayList<>(normalizedNames.size());
+        Set<String> missing = new HashSet<>();
+
+        for (String name : normalizedNames) {
+            Entry entry = byName.get(name);
+            if (entry != null) {
+                ids.add(entry.id());
+            } else {
+                missing.add(name);
+            }
+        }
+
+        // Possibly added on another node since the last reload
+        if (!missing.isEmpty()) {
+            for (Skill skill : skillRepository.findExistingSkills(missing)) {
+                put(skill.getId(), skill.getName());
+                ids.add(skill.getId());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Ids for the given normalised names, inserting the missing skills in the
+     * caller's transaction. Names must fit {@link Skill#MAX_NAME_LENGTH}.
+     */
+    public List<Long> resolveIds(Collection<String> normalizedNames) {
+        List<Long> ids = new ArrayList<>(normalizedNames.size());
+        Set<String> missing = new LinkedHashSet<>();
+
+        for (String name : normalizedNames) {
+            Entry entry = byName.get(name);
+            if (entry != null) {
+                ids.add(entry.id());
+            } else {
+                missing.add(name);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return ids;
+        }
+
+        // Plain read: no row locks on existing (popular) skills
+        List<Skill> found = new ArrayList<>(select(SELECT_BY_NAMES_SQL, missing));
+        for (Skill skill : found) {
+            ids.add(skill.getId());
+            missing.remove(skill.getName().toLowerCase(Locale.ROOT));
+        }
+
+        List<Skill> created = new ArrayList<>();
+        List<String> lost = new ArrayList<>();
+        for (String name : missing) {
+            Long id = insert(name);
+            if (id != null) {
+                created.add(Skill.builder().id(id).name(name).build());
+                ids.add(id);
+            } else {
+                lost.add(name);
+            }
+        }
+
+        if (!lost.isEmpty()) {
+            for (Skill skill : select(SELECT_LATEST_BY_NAMES_SQL, lost)) {
+                found.add(skill);
+                ids.add(skill.getId());
+            }
+        }
+
+        // A rollback removes rows inserted here (or earlier in the same transaction),
+        // so cache only once committed
+        TransactionHooks.afterCommit(() -> {
+            found.forEach(skill -> put(skill.getId(), skill.getName()));
+            created.forEach(skill -> put(skill.getId(), skill.getName()));
+        });
+        if (!created.isEmpty()) {
+            searchIndexSync.skillsCreated(created);
+        }
+        return ids;
+    }
+
+    // Generated id, or null when the name already exists
+    private Long insert(String name) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int inserted = jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, name);
+            return statement;
+        }, keyHolder);
+
+        return inserted == 1 ? keyHolder.getKey().longValue() : null;
+    }
+
+    private List<Skill> select(String sql, Collection<String> names) {
+        return namedJdbcTemplate.query(sql, Map.of("names", names),
+                (rs, row) -> Skill.builder().id(rs.getLong("id")).name(rs.getString("name")).build());
+    }
+
+    // ==================================================
+    // LISTING
+    // ==================================================
+
+    /**
+     * Skills whose name contains {@code keyword} (any case), ordered by name.
+     */
+    public Page<SkillDTO> search(String keyword, Pageable pageable) {
+        String needle = keyword != null ? keyword.trim().toLowerCase(Locale.ROOT) : "";
+
+        List<Entry> matches = needle.isEmpty()
+                ? sortedView()
+                : sortedView().stream()
+                        .filter(entry -> entry.name().toLowerCase(Locale.ROOT).contains(needle))
+                        .toList();
+
+        List<SkillDTO> page = matches.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(entry -> new SkillDTO(entry.id(), entry.name()))
+                .toList();
+
+        return new PageImpl<>(page, pageable, matches.size());
+    }
+
+    /**
+     * First {@code limit} skills whose name starts with {@code prefix} (any case), ordered by name.
+     */
+    public List<SkillDTO> suggest(String prefix, int limit) {
+        String needle = prefix != null ? prefix.trim().toLowerCase(Locale.ROOT) : "";
+
+        return sortedView().stream()
+                .filter(entry -> entry.name().toLowerCase(Locale.ROOT).startsWith(needle))
+                .limit(limit)
+                .map(entry -> new SkillDTO(entry.id(), entry.name()))
+                .toList();
+    }
+
+    private List<Entry> sortedView() {
+        // Read the change count first; a put racing with the copy forces another rebuild
+        long at = changes.get();
+        SortedView view = sorted;
+
+        if (view == null || view.changes() != at) {
+            List<Entry> entries = new ArrayList<>(byName.values());
+            entries.sort(BY_NAME);
+            view = new SortedView(at, Collections.unmodifiableList(entries));
+            sorted = view;
+        }
+        return view.entries();
+    }
+
+    // ==================================================
+    // BUILD
+    // ==================================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    @Scheduled(
+            initialDelayString = "${lwd.skills.dictionary.refresh-ms:600000}",
+            fixedDelayString = "${lwd.skills.dictionary.refresh-ms:600000}"
+    )
+    public void reload() {
+        try {
+            long loaded = KeysetLoader.forEach(skillRepository::findSkillSearchDocuments, SkillDTO::getId,
+                    skill -> put(skill.getId(), skill.getName()));
+
+            ready = true;
+            log.info("Skill dictionary loaded with {} skills", loaded);
+
+        } catch (RuntimeException ex) {
+            log.warn("Skill dictionary reload failed: {}", ex.getMessage());
+        }
+    }
+
+    private void put(long id, String name) {
+        Entry entry = new Entry(id, name);
+        if (!entry.equals(byName.put(name.toLowerCase(Locale.ROOT), entry))) {
+            changes.incrementAndGet();
+        }
+    }
+}
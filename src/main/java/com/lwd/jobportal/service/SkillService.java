@@ -0,0 +1,57 @@
+package com.lwd.jobportal.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lwd.jobportal.entity.Skill;
+import com.lwd.jobportal.repository.SkillRepository;
+import com.lwd.jobportal.search.SkillNames;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resolves free-text skill names to shared {@link Skill} rows, creating the
+ * missing ones. Used for both job seeker skills and job required skills.
+ */
+@Service
+@RequiredArgsConstructor
+public class SkillService {
+
+    private final SkillRepository skillRepository;
+    private final SkillDictionary skillDictionary;
+
+    /**
+     * Skill rows for the given names, created when missing. Returns references
+     * for attaching to associations; names load from the second-level cache.
+     *
+     * @throws IllegalArgumentException if a name is longer than {@link Skill#MAX_NAME_LENGTH}
+     */
+    @Transactional
+    public Set<Skill> resolveSkills(Collection<String> skillNames) {
+
+        if (skillNames == null || skillNames.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        Set<String> normalizedNames = SkillNames.normalize(skillNames);
+        if (normalizedNames.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        for (String name : normalizedNames) {
+            if (name.length() > Skill.MAX_NAME_LENGTH) {
+                throw new IllegalArgumentException(
+                        "Skill name must be at most " + Skill.MAX_NAME_LENGTH + " characters: " + name);
+            }
+        }
+
+        return skillDictionary.resolveIds(normalizedNames).stream()
+                .map(skillRepository::getReferenceById)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+}
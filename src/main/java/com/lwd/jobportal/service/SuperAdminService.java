@@ -10,6 +10,7 @@ import com.lwd.jobportal.exception.ForbiddenActionException;
 import com.lwd.jobportal.exception.InvalidOperationException;
 import com.lwd.jobportal.exception.ResourceNotFoundException;
 import com.lwd.jobportal.repository.UserRepository;
+import com.lwd.jobportal.search.SearchIndexSync;
 import com.lwd.jobportal.security.SecurityUtils;
 
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,8 @@ import lombok.RequiredArgsConstructor;
 public class SuperAdminService {
 
     private final UserRepository userRepository;
+    private final SearchIndexSync searchIndexSync;
+    private final CurrentCompanyService currentCompanyService;
 
     // ================= VIEW ADMINS =================
     public List<User> getAllAdmins() {
@@ -46,6 +49,8 @@ public class SuperAdminService {
 
         user.setRole(Role.ADMIN);
         userRepository.save(user);
+        searchIndexSync.userChanged(user);
+        currentCompanyService.companyChanged(user.getId());
     }
 
     // ================= DEMOTE ADMIN =================
@@ -60,6 +65,8 @@ public class SuperAdminService {
 
         admin.setRole(Role.JOB_SEEKER);
         userRepository.save(admin);
+        searchIndexSync.userChanged(admin);
+        currentCompanyService.companyChanged(admin.getId());
     }
 
     public void blockAdmin(Long adminId) {
@@ -129,6 +136,8 @@ public class SuperAdminService {
 
         user.setRole(newRole);
         userRepository.save(user);
+        searchIndexSync.userChanged(user);
+        currentCompanyService.companyChanged(user.getId());
     }
 
     // ================= HELPER METHODS =================
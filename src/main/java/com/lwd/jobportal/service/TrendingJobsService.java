@@ -0,0 +1,123 @@
+package com.lwd.jobportal.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.lwd.jobportal.repository.JobRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Materialised "trending jobs" ranking.
+ *
+ * score = (views + applicationWeight * applications) * 2^(-age / halfLife)
+ *
+ * Recomputed every {@code lwd.jobs.trending.refresh-ms} from one grouped query
+ * over open jobs and their job_application_counters rows (not the applications
+ * themselves), keeping only the top K ids in a bounded min-heap. Readers get the cached
+ * id list; no per-request sorting.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingJobsService {
+
+    // Weakest first; equal scores rank the newer job (higher id) higher, so the
+    // top K and its order do not depend on the query's row order
+    private static final Comparator<ScoredJob> WEAKEST_FIRST =
+            Comparator.comparingDouble(ScoredJob::score)
+                    .thenComparing(ScoredJob::jobId);
+
+    private final JobRepository jobRepository;
+
+    // Kept above the widget size so jobs closed between refreshes can be skipped
+    @Value("${lwd.jobs.trending.size:20}")
+    private int size;
+
+    @Value("${lwd.jobs.trending.half-life-hours:72}")
+    private double halfLifeHours;
+
+    @Value("${lwd.jobs.trending.application-weight:5}")
+    private double applicationWeight;
+
+    // null until the first computation has finished
+    private volatile List<Long> trendingIds;
+
+    public List<Long> getTrendingIds() {
+        return trendingIds;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    @Scheduled(
+            initialDelayString = "${lwd.jobs.trending.refresh-ms:300000}",
+            fixedDelayString = "${lwd.jobs.trending.refresh-ms:300000}"
+    )
+    public void refresh() {
+        if (size <= 0) {
+            trendingIds = List.of();
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+
+            // Min-heap on score: the root is the weakest of the current top K
+            PriorityQueue<ScoredJob> top = new PriorityQueue<>(size + 1, WEAKEST_FIRST);
+
+            for (Object[] row : jobRepository.findTrendingSignals()) {
+                Long jobId = (Long) row[0];
+                long views = row[1] != null ? (Long) row[1] : 0L;
+                LocalDateTime createdAt = (LocalDateTime) row[2];
+                long applications = ((Number) row[3]).longValue();
+
+                ScoredJob job = new ScoredJob(jobId, score(views, applications, createdAt, now));
+
+                if (top.size() < size) {
+                    top.add(job);
+                } else if (WEAKEST_FIRST.compare(job, top.peek()) > 0) {
+                    top.poll();
+                    top.add(job);
+                }
+            }
+
+            List<ScoredJob> ranked = new ArrayList<>(top);
+            ranked.sort(WEAKEST_FIRST.reversed());
+
+            trendingIds = Collections.unmodifiableList(
+                    ranked.stream().map(ScoredJob::jobId).toList());
+
+        } catch (RuntimeException ex) {
+            log.warn("Trending jobs refresh failed: {}", ex.getMessage());
+        }
+    }
+
+    private double score(long views, long applications, LocalDateTime createdAt, LocalDateTime now) {
+        double engagement = views + applicationWeight * applications;
+
+        if (createdAt == null) {
+            return engagement;
+        }
+
+        double ageHours = Math.max(0, Duration.between(createdAt, now).toMinutes() / 60.0);
+        return engagement * Math.pow(2, -ageHours / halfLifeHours);
+    }
+
+    private record ScoredJob(Long jobId, double score) {
+    }
+}
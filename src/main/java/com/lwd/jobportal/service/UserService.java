@@ -8,6 +8,7 @@ import com.lwd.jobportal.dto.userdto.UserResponse;
 import com.lwd.jobportal.entity.User;
 import com.lwd.jobportal.exception.ResourceNotFoundException;
 import com.lwd.jobportal.repository.UserRepository;
+import com.lwd.jobportal.search.SearchIndexSync;
 
 import lombok.RequiredArgsConstructor;
 
@@ -17,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final SearchIndexSync searchIndexSync;
 
     // ✅ Update logged-in or admin-managed user profile
     public UserResponse updateUser(Long userId, UpdateUserRequest request) {
@@ -24,14 +26,23 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        if (request.getName() != null)
+        boolean searchable = false;
+
+        if (request.getName() != null && !request.getName().equals(user.getName())) {
             user.setName(request.getName());
+            searchable = true;
+        }
 
         if (request.getPhone() != null)
             user.setPhone(request.getPhone());
 
-        if (request.getIsActive() != null)
+        if (request.getIsActive() != null && !request.getIsActive().equals(user.getIsActive())) {
             user.setIsActive(request.getIsActive());
+            searchable = true;
+        }
+
+        if (searchable)
+            searchIndexSync.userChanged(user);
 
         return mapToResponse(user);
     }
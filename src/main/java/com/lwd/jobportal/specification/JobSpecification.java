@@ -1,10 +1,10 @@
 package com.lwd.jobportal.specification;
 
 import com.lwd.jobportal.entity.Job;
-import com.lwd.jobportal.entity.JobSeeker;
 import com.lwd.jobportal.enums.JobStatus;
 import com.lwd.jobportal.enums.JobType;
 import com.lwd.jobportal.enums.NoticeStatus;
+import com.lwd.jobportal.util.KeysetCursor;
 
 import org.springframework.data.jpa.domain.Specification;
 
@@ -210,88 +210,83 @@ public class JobSpecification {
     
     
     
-    public static Specification<Job> similarJobs(
-            String industry,
-            JobType jobType,
-            Long jobId
-    ) {
+    // ===== KEYSET FEEDS =====
+
+    /**
+     * OPEN, not deleted, company fetched; matches idx_jobs_deleted_status_created_at.
+     * No DISTINCT: only to-one joins, and it would stop the index from ordering rows.
+     */
+    public static Specification<Job> publicFeed() {
+
         return (root, query, cb) -> {
 
             if (query.getResultType() != Long.class) {
-
                 root.fetch("company", JoinType.LEFT);
-
-                query.distinct(true);
             }
 
             return cb.and(
-                    cb.equal(root.get("status"), JobStatus.OPEN),
-                    cb.equal(root.get("industry"), industry),
-                    cb.equal(root.get("jobType"), jobType),
-                    cb.notEqual(root.get("id"), jobId),
-                    cb.isFalse(root.get("deleted"))
+                    cb.isFalse(root.get("deleted")),
+                    cb.equal(root.get("status"), JobStatus.OPEN)
             );
         };
     }
 
-    
-    
-    public static Specification<Job> recommendedJobs(JobSeeker seeker) {
+    /**
+     * Rows after the cursor in (createdAt DESC, id DESC) order; all rows for a null cursor.
+     */
+    public static Specification<Job> createdBefore(KeysetCursor cursor) {
 
         return (root, query, cb) -> {
 
-            boolean isCountQuery = query.getResultType() == Long.class;
-
-            if (!isCountQuery) {
-                root.fetch("company", JoinType.LEFT);
-                root.fetch("skills", JoinType.LEFT);
-                query.distinct(true);
+            if (cursor == null) {
+                return cb.conjunction();
             }
 
-            List<Predicate> predicates = new ArrayList<>();
+            // createdAt <= c keeps the range on the index; the OR breaks ties by id
+            return cb.and(
+                    cb.lessThanOrEqualTo(root.get("createdAt"), cursor.createdAt()),
+                    cb.or(
+                            cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                            cb.lessThan(root.get("id"), cursor.id())
+                    )
+            );
+        };
+    }
 
-            // 🔒 Only active public jobs
-            predicates.add(cb.isFalse(root.get("deleted")));
-            predicates.add(cb.equal(root.get("status"), JobStatus.OPEN));
+    public static Specification<Job> companyIs(Long companyId) {
+        return (root, query, cb) -> cb.equal(root.get("company").get("id"), companyId);
+    }
 
-            // 🔹 Experience Compatibility
-            if (seeker.getTotalExperience() != null) {
+    public static Specification<Job> createdByIs(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("createdBy").get("id"), userId);
+    }
 
-                predicates.add(
-                    cb.lessThanOrEqualTo(
-                        root.get("minExperience"),
-                        seeker.getTotalExperience()
-                    )
-                );
-            }
+    public static Specification<Job> notDeleted() {
+        return (root, query, cb) -> cb.isFalse(root.get("deleted"));
+    }
 
-            // 🔹 CTC Compatibility
-            if (seeker.getExpectedCTC() != null) {
+    public static Specification<Job> similarJobs(
+            String industry,
+            JobType jobType,
+            Long jobId
+    ) {
+        return (root, query, cb) -> {
 
-                predicates.add(
-                    cb.greaterThanOrEqualTo(
-                        root.get("maxCTC"),
-                        seeker.getExpectedCTC()
-                    )
-                );
-            }
+            if (query.getResultType() != Long.class) {
 
-            // 🔹 Location Soft Filter
-            if (seeker.getPreferredLocation() != null &&
-                !seeker.getPreferredLocation().isBlank()) {
+                root.fetch("company", JoinType.LEFT);
 
-                predicates.add(
-                    cb.like(
-                        cb.lower(root.get("location")),
-                        "%" + seeker.getPreferredLocation().toLowerCase() + "%"
-                    )
-                );
+                query.distinct(true);
             }
 
-            return cb.and(predicates.toArray(new Predicate[0]));
+            return cb.and(
+                    cb.equal(root.get("status"), JobStatus.OPEN),
+                    cb.equal(root.get("industry"), industry),
+                    cb.equal(root.get("jobType"), jobType),
+                    cb.notEqual(root.get("id"), jobId),
+                    cb.isFalse(root.get("deleted"))
+            );
         };
     }
 
-
-
 }
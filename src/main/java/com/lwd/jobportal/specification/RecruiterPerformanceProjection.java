@@ -0,0 +1,9 @@
+package com.lwd.jobportal.specification;
+
+public interface RecruiterPerformanceProjection {
+    Long getRecruiterId();
+    String getRecruiterName();
+    Long getJobsPosted();
+    Long getActiveJobs();
+    Long getApplicationsReceived();
+}
@@ -0,0 +1,53 @@
+package com.lwd.jobportal.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.StringJoiner;
+
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * ETag / Last-Modified validation for single-resource GETs.
+ *
+ * The ETag is built from the resource name, its {@code updatedAt} and any extra
+ * parts that change without touching {@code updatedAt} (e.g. a counter). With
+ * such parts only the ETag is validated: If-Modified-Since alone cannot see them.
+ * When the client copy is current the 304 is already prepared and the controller
+ * returns {@code null} without mapping or serializing the body.
+ */
+public final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    public static boolean notModified(WebRequest request, String resource, LocalDateTime updatedAt, Object... parts) {
+        if (updatedAt == null) {
+            return false;
+        }
+
+        long lastModified = updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        StringJoiner etag = new StringJoiner("-", "\"", "\"");
+        etag.add(resource).add(Long.toString(lastModified));
+        for (Object part : parts) {
+            etag.add(String.valueOf(part));
+        }
+
+        return parts.length == 0
+                ? request.checkNotModified(etag.toString(), lastModified)
+                : request.checkNotModified(etag.toString());
+    }
+
+    /**
+     * Latest of the given timestamps, for a response built from several rows; nulls are skipped.
+     */
+    public static LocalDateTime latest(LocalDateTime... timestamps) {
+        LocalDateTime latest = null;
+        for (LocalDateTime timestamp : timestamps) {
+            if (timestamp != null && (latest == null || timestamp.isAfter(latest))) {
+                latest = timestamp;
+            }
+        }
+        return latest;
+    }
+}
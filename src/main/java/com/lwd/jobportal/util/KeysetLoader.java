@@ -0,0 +1,67 @@
+package com.lwd.jobportal.util;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Walks a whole table in id order for the in-memory indexes.
+ *
+ * Each batch is {@code WHERE id > :afterId ORDER BY id} with a limit, so every
+ * query is an index range read; OFFSET paging would rescan all earlier rows
+ * on each page.
+ */
+public final class KeysetLoader {
+
+    public static final int BATCH_SIZE = 1000;
+
+    private KeysetLoader() {
+    }
+
+    /**
+     * One batch of rows with an id above {@code afterId}, ascending by id.
+     * The page size of {@code limit} caps the batch; its offset is always zero.
+     */
+    @FunctionalInterface
+    public interface Query<T> {
+        List<T> load(Long afterId, Pageable limit);
+    }
+
+    /**
+     * Feeds every row to {@code consumer} in id order.
+     *
+     * @return number of rows read
+     */
+    public static <T> long forEach(Query<T> query, ToLongFunction<T> idOf, Consumer<T> consumer) {
+        return forEachBatch(query, idOf, batch -> batch.forEach(consumer));
+    }
+
+    /**
+     * Feeds the rows to {@code consumer} one batch at a time, in id order.
+     *
+     * @return number of rows read
+     */
+    public static <T> long forEachBatch(Query<T> query, ToLongFunction<T> idOf, Consumer<List<T>> consumer) {
+        Pageable limit = PageRequest.of(0, BATCH_SIZE);
+        long afterId = 0L;
+        long rows = 0L;
+
+        while (true) {
+            List<T> batch = query.load(afterId, limit);
+            if (batch.isEmpty()) {
+                return rows;
+            }
+
+            consumer.accept(batch);
+            rows += batch.size();
+
+            if (batch.size() < BATCH_SIZE) {
+                return rows;
+            }
+            afterId = idOf.applyAsLong(batch.get(batch.size() - 1));
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.lwd.jobportal.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.lwd.jobportal.entity.JobSeeker;
+import com.lwd.jobportal.entity.Skill;
+import com.lwd.jobportal.entity.User;
+import com.lwd.jobportal.enums.NoticeStatus;
+import com.lwd.jobportal.enums.Role;
+import com.lwd.jobportal.enums.UserStatus;
+import com.lwd.jobportal.repository.JobSeekerRepository;
+import com.lwd.jobportal.repository.SkillRepository;
+import com.lwd.jobportal.repository.UserRepository;
+import com.lwd.jobportal.specification.JobSeekerSpecification;
+
+/**
+ * {@link CandidateIndex} must return what {@link JobSeekerSpecification} returns
+ * from the database: same totals, same pages in the same order (NULLs lowest,
+ * ties by id), for random filters, sorts and pages over profiles with missing values.
+ */
+@DataJpaTest(showSql = false,
+        properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(CandidateIndex.class)
+class CandidateIndexTests {
+
+    private static final int SEEKERS = 120;
+    private static final int TRIALS = 300;
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+
+    @Autowired
+    private CandidateIndex index;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobSeekerRepository jobSeekerRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    private final Random random = new Random(7);
+    private final List<Skill> skills = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        for (String name : List.of("java", "spring", "sql", "python", "go", "react")) {
+            skills.add(skillRepository.save(Skill.builder().name(name).build()));
+        }
+
+        for (int i = 0; i < SEEKERS; i++) {
+            User user = userRepository.save(User.builder()
+                    .name("seeker" + i)
+                    .email("seeker" + i + "@example.com")
+                    .password("secret")
+                    .role(Role.JOB_SEEKER)
+                    .status(UserStatus.ACTIVE)
+                    .isActive(true)
+                    .build());
+
+            // Every column is sometimes null; small ranges force ties
+            JobSeeker seeker = new JobSeeker();
+            seeker.setUser(user);
+            seeker.setTotalExperience(sometimes(5, () -> random.nextInt(12)));
+            seeker.setExpectedCTC(sometimes(5, () -> (double) random.nextInt(30)));
+            seeker.setNoticePeriod(sometimes(5, () -> random.nextInt(90)));
+            seeker.setProfileCompletion(random.nextInt(5) * 25);
+            seeker.setNoticeStatus(sometimes(4, () -> randomNoticeStatus()));
+            seeker.setImmediateJoiner(sometimes(4, random::nextBoolean));
+            seeker.setAvailableFrom(sometimes(4, () -> START.plusDays(random.nextInt(120))));
+
+            Set<Skill> held = new HashSet<>();
+            for (Skill skill : skills) {
+                if (random.nextInt(3) == 0) {
+                    held.add(skill);
+                }
+            }
+            seeker.setSkills(held);
+            jobSeekerRepository.save(seeker);
+        }
+
+        index.rebuild();
+    }
+
+    @Test
+    void filterSearchMatchesSpecification() {
+        for (int trial = 0; trial < TRIALS; trial++) {
+            CandidateFilter filter = randomFilter();
+            CandidateSort sort = CandidateSort.values()[trial % CandidateSort.values().length];
+            boolean descending = random.nextBoolean();
+            Pageable pageable = PageRequest.of(random.nextInt(4), 1 + random.nextInt(10));
+
+            Page<Long> fromIndex = index.search(filter, sort, descending, pageable);
+
+            Sort order = Sort.by(
+                    new Sort.Order(descending ? Sort.Direction.DESC : Sort.Direction.ASC, propertyOf(sort)),
+                    Sort.Order.asc("id"));
+            Page<JobSeeker> fromDatabase = jobSeekerRepository.findAll(
+                    specification(filter, null),
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), order));
+
+            String context = "trial " + trial + ": " + filter + " by " + sort + (descending ? " DESC " : " ASC ") + pageable;
+            assertEquals(fromDatabase.getTotalElements(), fromIndex.getTotalElements(), context);
+            assertEquals(ids(fromDatabase), fromIndex.getContent(), context);
+        }
+    }
+
+    @Test
+    void skillSearchMatchesSpecification() {
+        for (int trial = 0; trial < TRIALS; trial++) {
+            CandidateFilter filter = randomFilter();
+            List<Skill> requested = List.of(
+                    skills.get(random.nextInt(skills.size())),
+                    skills.get(random.nextInt(skills.size())));
+
+            // One page holding every match; the SQL ranks overlap with GROUP BY/COUNT, which H2
+            // rejects alongside DISTINCT, so the total comes from the real count query and the
+            // members from the same filter plus a plain skill join
+            Page<Long> fromIndex = index.searchBySkills(
+                    requested.stream().map(Skill::getId).toList(), filter, PageRequest.of(0, SEEKERS));
+            long total = jobSeekerRepository.count(
+                    specification(filter, requested.stream().map(Skill::getName).toList()));
+            List<JobSeeker> members = jobSeekerRepository.findAll(
+                    specification(filter, null).and(holdsAnyOf(requested)));
+
+            String context = "trial " + trial + ": " + filter + " skills " + requested.stream().map(Skill::getName).toList();
+            assertEquals(total, fromIndex.getTotalElements(), context);
+            assertEquals(members.stream().map(JobSeeker::getId).collect(Collectors.toSet()),
+                    new HashSet<>(fromIndex.getContent()), context);
+        }
+    }
+
+    // ==================================================
+    // HELPERS
+    // ==================================================
+
+    private CandidateFilter randomFilter() {
+        return new CandidateFilter(
+                sometimes(2, () -> random.nextInt(6)),
+                sometimes(2, () -> 4 + random.nextInt(8)),
+                sometimes(3, () -> (double) random.nextInt(10)),
+                sometimes(3, () -> 10.0 + random.nextInt(20)),
+                random.nextInt(4) == 0 ? randomNoticeStatus() : null,
+                random.nextInt(3) == 0 ? random.nextInt(90) : null,
+                random.nextInt(4) == 0 ? random.nextBoolean() : null,
+                random.nextInt(4) == 0 ? START.plusDays(random.nextInt(120)) : null
+        );
+    }
+
+    private static Specification<JobSeeker> specification(CandidateFilter filter, List<String> skillNames) {
+        return JobSeekerSpecification.searchJobSeekers(
+                null, skillNames, null, null,
+                filter.minExperience(), filter.maxExperience(),
+                filter.minExpectedCTC(), filter.maxExpectedCTC(),
+                filter.noticeStatus(), filter.maxNoticePeriod(),
+                filter.immediateJoiner(), filter.availableBefore());
+    }
+
+    private static Specification<JobSeeker> holdsAnyOf(List<Skill> skills) {
+        return (root, query, cb) -> {
+            query.distinct(true);
+            return root.join("skills").get("id").in(skills.stream().map(Skill::getId).toList());
+        };
+    }
+
+    private static String propertyOf(CandidateSort sort) {
+        return switch (sort) {
+            case TOTAL_EXPERIENCE -> "totalExperience";
+            case EXPECTED_CTC -> "expectedCTC";
+            case NOTICE_PERIOD -> "noticePeriod";
+            case AVAILABLE_FROM -> "availableFrom";
+            case PROFILE_COMPLETION -> "profileCompletion";
+        };
+    }
+
+    private static List<Long> ids(Page<JobSeeker> page) {
+        return page.getContent().stream().map(JobSeeker::getId).toList();
+    }
+
+    private NoticeStatus randomNoticeStatus() {
+        return NoticeStatus.values()[random.nextInt(NoticeStatus.values().length)];
+    }
+
+    // A value, or null one time in {@code oneIn}
+    private <T> T sometimes(int oneIn, Supplier<T> value) {
+        return random.nextInt(oneIn) == 0 ? null : value.get();
+    }
+}
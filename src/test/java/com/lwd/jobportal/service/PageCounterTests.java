@@ -0,0 +1,78 @@
+package com.lwd.jobportal.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import com.lwd.jobportal.dto.comman.CountMode;
+
+/**
+ * {@link PageCounter} totals in each {@link CountMode}, including pages past the
+ * last row, which must not be taken as the end of the result.
+ */
+class PageCounterTests {
+
+    private static final List<Long> ROWS = LongStream.rangeClosed(1, 10).boxed().toList();
+
+    private final PageCounter counter = new PageCounter(100, 60_000);
+
+    @Test
+    void noneModeCountsWhenPageIsPastTheEnd() {
+        Page<Long> page = find(CountMode.NONE, PageRequest.of(100, 12));
+
+        assertTrue(page.getContent().isEmpty());
+        assertEquals(10, page.getTotalElements());
+    }
+
+    @Test
+    void noneModeReportsLowerBoundInsideTheResult() {
+        assertEquals(5, find(CountMode.NONE, PageRequest.of(0, 4)).getTotalElements());
+        assertEquals(10, find(CountMode.NONE, PageRequest.of(2, 4)).getTotalElements());
+    }
+
+    @Test
+    void estimatedModeKeepsCachedTotalWhenPageIsPastTheEnd() {
+        assertEquals(10, find(CountMode.ESTIMATED, PageRequest.of(0, 4)).getTotalElements());
+
+        assertEquals(10, find(CountMode.ESTIMATED, PageRequest.of(100, 12)).getTotalElements());
+
+        // The cached total survived the request past the end
+        assertEquals(10, find(CountMode.ESTIMATED, PageRequest.of(1, 4)).getTotalElements());
+    }
+
+    @Test
+    void estimatedModeRefreshesTotalOnNonEmptyLastPage() {
+        find(CountMode.ESTIMATED, PageRequest.of(0, 4));
+
+        assertEquals(10, find(CountMode.ESTIMATED, PageRequest.of(2, 4)).getTotalElements());
+    }
+
+    private Page<Long> find(CountMode mode, Pageable pageable) {
+        return counter.find(mode, "rows", pageable, PageCounterTests::page, PageCounterTests::slice);
+    }
+
+    private static Page<Long> page(Pageable pageable) {
+        return new PageImpl<>(rows(pageable, pageable.getPageSize()), pageable, ROWS.size());
+    }
+
+    private static Slice<Long> slice(Pageable pageable) {
+        List<Long> rows = rows(pageable, pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    private static List<Long> rows(Pageable pageable, int limit) {
+        int from = (int) Math.min(pageable.getOffset(), ROWS.size());
+        return ROWS.subList(from, Math.min(from + limit, ROWS.size()));
+    }
+}